@@ -0,0 +1,91 @@
+package guobao.plugin.converter;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 十六进制、Base64 与百分号编码的基准测试：getBytes 加 String.format / java.util.Base64 / URLEncoder 与查表分块实现对比
+ *
+ * <p>输入为中英文混合的文本，分数为每秒完成的整份编码（解码）次数。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ByteCodecBenchmark {
+
+    /** 输入长度（字符数） */
+    @Param({"1048576"})
+    public int size;
+
+    private String text;
+    private String base64;
+
+    @Setup
+    public void setup() throws IOException {
+        Random r = new Random(0x4D54_436F_6E76L);
+        StringBuilder sb = new StringBuilder(size);
+        while (sb.length() < size) {
+            if (r.nextInt(4) == 0) sb.append((char) (0x4E00 + r.nextInt(0x5000)));
+            else sb.append((char) ('a' + r.nextInt(26)));
+            if (r.nextInt(8) == 0) sb.append(' ');
+        }
+        text = sb.toString();
+        base64 = ByteCodec.encode(text, ByteCodec.Format.BASE64, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String hexLegacy() {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) sb.append(String.format("%02x", b));
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String hexTable() throws IOException {
+        return ByteCodec.encode(text, ByteCodec.Format.HEX, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String base64Jdk() {
+        return Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public String base64Table() throws IOException {
+        return ByteCodec.encode(text, ByteCodec.Format.BASE64, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String base64DecodeJdk() {
+        return new String(Base64.getDecoder().decode(base64), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String base64DecodeTable() throws IOException {
+        return ByteCodec.decode(base64, ByteCodec.Format.BASE64, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String percentJdk() {
+        // URLEncoder 把空格编码为 +，此处只比较速度
+        return URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String percentTable() throws IOException {
+        return ByteCodec.encode(text, ByteCodec.Format.PERCENT, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,82 @@
+package guobao.plugin.converter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Case} 分词与转换的基准测试
+ *
+ * <p>每次调用遍历整份语料，并通过 {@link OperationsPerInvocation} 折算为「每个标识符」的吞吐量，
+ * 配合 gc 分析器即可得到每个标识符分配的字节数。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CaseBenchmark {
+
+    @Param({"SHORT", "JAVA_FQN", "CPP_SCOPED", "CJK_MIXED"})
+    public IdentifierCorpus corpus;
+
+    private String[] input;
+    private Case.TokenizerConfig cfg;
+    /** 在语料配置的基础上启用 SYMBOL 规则 */
+    private Case.TokenizerConfig symbolCfg;
+    private final Case.TokenBuffer tokens = new Case.TokenBuffer();
+
+    @Setup
+    public void setup() {
+        input = corpus.generate();
+        cfg = corpus.config();
+        symbolCfg = new Case.TokenizerConfig.Builder()
+                .rules(Case.SplitRule.CASE, Case.SplitRule.NUMBER, Case.SplitRule.SYMBOL)
+                .delimiters(cfg.extraDelimiters)
+                .protectedRules(cfg.protectedRules)
+                .build();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierCorpus.SIZE)
+    public void tokenize(Blackhole bh) {
+        for (String s : input) bh.consume(Case.tokenize(s, 0, s.length(), cfg, tokens));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierCorpus.SIZE)
+    public void tokenizeSymbol(Blackhole bh) {
+        for (String s : input) bh.consume(Case.tokenize(s, 0, s.length(), symbolCfg, tokens));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierCorpus.SIZE)
+    public void snakeCase(Blackhole bh) {
+        for (String s : input) bh.consume(Case.toSnakeCase(s, cfg, false));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierCorpus.SIZE)
+    public void constantCase(Blackhole bh) {
+        for (String s : input) bh.consume(Case.toSnakeCase(s, cfg, true));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierCorpus.SIZE)
+    public void camelCase(Blackhole bh) {
+        for (String s : input) bh.consume(Case.toCamelCase(s, cfg, false, true));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierCorpus.SIZE)
+    public void pascalCase(Blackhole bh) {
+        for (String s : input) bh.consume(Case.toCamelCase(s, cfg, true, true));
+    }
+}
@@ -0,0 +1,51 @@
+package guobao.plugin.converter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 整表批量转换的基准测试：逐条调用与 {@link Case#convertAll} 对比
+ *
+ * <p>以 100k 条目模拟一次完整的字符串表导出，分数为每秒完成的整表转换次数。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CaseBulkBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"SHORT", "JAVA_FQN"})
+    public IdentifierCorpus corpus;
+
+    private List<String> input;
+    private Case.TokenizerConfig cfg;
+
+    @Setup
+    public void setup() {
+        input = Arrays.asList(corpus.generate(size));
+        cfg = corpus.config();
+    }
+
+    @Benchmark
+    public void perEntry(Blackhole bh) {
+        for (String s : input) bh.consume(Case.toSnakeCase(s, cfg, false));
+    }
+
+    @Benchmark
+    public List<String> convertAll() {
+        return Case.convertAll(input, Case.Style.SNAKE, cfg);
+    }
+}
@@ -0,0 +1,49 @@
+package guobao.plugin.converter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 转换结果缓存的基准测试：直接调用 {@link Case#convert} 与经过 {@link CaseCache} 对比
+ *
+ * <p>语料由有限的词表组合而成，与真实字符串表一样存在大量重复的标识符。
+ * 缓存在 Setup 中创建，测量的是预热后的稳定状态。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CaseCacheBenchmark {
+
+    @Param({"SHORT", "JAVA_FQN"})
+    public IdentifierCorpus corpus;
+
+    private String[] input;
+    private Case.TokenizerConfig cfg;
+    private CaseCache cache;
+
+    @Setup
+    public void setup() {
+        input = corpus.generate();
+        cfg = corpus.config();
+        cache = new CaseCache(CaseCache.DEFAULT_MAX_CHARS);
+    }
+
+    @Benchmark
+    public void direct(Blackhole bh) {
+        for (String s : input) bh.consume(Case.convert(s, Case.Style.SNAKE, cfg));
+    }
+
+    @Benchmark
+    public void cached(Blackhole bh) {
+        for (String s : input) bh.consume(cache.convert(s, Case.Style.SNAKE, cfg));
+    }
+}
@@ -0,0 +1,51 @@
+package guobao.plugin.converter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 一次输出全部风格：逐个调用 {@link Case#convert} 与只分词一次的 {@link Case#convertEach} 对比
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CasePreviewBenchmark {
+
+    private static final Case.Style[] STYLES = Case.Style.values();
+
+    @Param({"SHORT", "JAVA_FQN", "CPP_SCOPED", "CJK_MIXED"})
+    public IdentifierCorpus corpus;
+
+    private String[] input;
+    private Case.TokenizerConfig cfg;
+
+    @Setup
+    public void setup() {
+        input = corpus.generate();
+        cfg = corpus.config();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierCorpus.SIZE)
+    public void perStyle(Blackhole bh) {
+        for (String s : input) {
+            for (Case.Style style : STYLES) bh.consume(Case.convert(s, style, cfg));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierCorpus.SIZE)
+    public void convertEach(Blackhole bh) {
+        for (String s : input) bh.consume(Case.convertEach(s, cfg, STYLES));
+    }
+}
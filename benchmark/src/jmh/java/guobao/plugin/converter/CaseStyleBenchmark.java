@@ -0,0 +1,54 @@
+package guobao.plugin.converter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Case#defaultCase} 各分隔符风格的基准测试（path / kebab / chain / space 以及 snake）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CaseStyleBenchmark {
+
+    @Param({"SHORT", "JAVA_FQN", "CPP_SCOPED", "CJK_MIXED"})
+    public IdentifierCorpus corpus;
+
+    /** 风格名与 Converter 中的目标名保持一致 */
+    @Param({"snake", "kebab", "chain", "path", "space"})
+    public String style;
+
+    private String[] input;
+    private String separator;
+    private Case.TokenizerConfig cfg;
+
+    @Setup
+    public void setup() {
+        input = corpus.generate();
+        cfg = corpus.config();
+        separator = switch (style) {
+            case "snake" -> "_";
+            case "kebab" -> "-";
+            case "chain" -> ".";
+            case "path" -> "/";
+            case "space" -> " ";
+            default -> throw new IllegalArgumentException(style);
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierCorpus.SIZE)
+    public void defaultCase(Blackhole bh) {
+        for (String s : input) bh.consume(Case.defaultCase(separator, s, cfg));
+    }
+}
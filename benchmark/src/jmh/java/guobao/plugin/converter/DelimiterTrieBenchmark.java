@@ -0,0 +1,70 @@
+package guobao.plugin.converter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 对比 {@link Case.DelimiterTrie#longestMatch} 与朴素的列表遍历匹配
+ *
+ * <p>每次调用对测试串的每个位置各做一次最长匹配。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DelimiterTrieBenchmark {
+
+    private static final String TEXT = "hello:::world::xLONG_DELIM_EXAMPLE_1::some->end###foo";
+    /** TEXT 的长度，注解参数必须是编译期常量 */
+    private static final int POSITIONS = 53;
+
+    private List<String> delims;
+    private Case.DelimiterTrie trie;
+
+    @Setup
+    public void setup() {
+        // 包含短与长项，Builder.build() 会做去重与按长度降序排序
+        List<String> raw = Arrays.asList(":::", "::", "::?", ".", "###", "=>", "->", "<=", "||", "+++",
+                "LONG_DELIM_EXAMPLE_1", "LONG_DELIM_EXAMPLE_2", "x", "y", "z");
+        Case.TokenizerConfig cfg = new Case.TokenizerConfig.Builder().delimiters(raw).build();
+        delims = cfg.extraDelimiters;
+        trie = cfg.getTrieForTest();
+        if (TEXT.length() != POSITIONS) throw new IllegalStateException("POSITIONS != TEXT.length()");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public void trie(Blackhole bh) {
+        for (int i = 0; i < POSITIONS; i++) bh.consume(trie.longestMatch(TEXT, i, POSITIONS));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public void naive(Blackhole bh) {
+        for (int i = 0; i < POSITIONS; i++) bh.consume(naiveLongestMatch(TEXT, i, POSITIONS, delims));
+    }
+
+    private static int naiveLongestMatch(CharSequence src, int pos, int end, List<String> delims) {
+        // delims 已按长度降序排列，第一次命中即为最长
+        for (String d : delims) {
+            int dl = d.length();
+            if (pos + dl > end) continue;
+            boolean ok = true;
+            for (int k = 0; k < dl; k++) {
+                if (src.charAt(pos + k) != d.charAt(k)) { ok = false; break; }
+            }
+            if (ok) return dl;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,149 @@
+package guobao.plugin.converter;
+
+import java.util.Random;
+
+/**
+ * 基准测试用的标识符语料
+ *
+ * <p>语料由固定种子生成，保证每次运行（以及每个 fork）输入完全一致，便于前后对比。
+ * 每种语料都附带一份与之匹配的分词器配置。
+ */
+public enum IdentifierCorpus {
+    /** 短标识符：资源键名、变量名，如 app_name、btnSubmit、HTTPServer */
+    SHORT {
+        @Override
+        String next(Random r) {
+            int n = 1 + r.nextInt(3);
+            StringBuilder sb = new StringBuilder();
+            int style = r.nextInt(4);
+            for (int i = 0; i < n; i++) {
+                String w = pick(r, WORDS);
+                if (r.nextInt(8) == 0) w = pick(r, ACRONYMS);
+                switch (style) {
+                    case 0 -> { if (i > 0) sb.append('_'); sb.append(w.toLowerCase()); }
+                    case 1 -> sb.append(i == 0 ? w.toLowerCase() : capitalize(w));
+                    case 2 -> sb.append(capitalize(w));
+                    default -> { if (i > 0) sb.append('_'); sb.append(w.toUpperCase()); }
+                }
+            }
+            if (r.nextInt(6) == 0) sb.append(r.nextInt(100));
+            return sb.toString();
+        }
+
+        @Override
+        Case.TokenizerConfig config() { return Case.TokenizerConfig.defaults(); }
+    },
+
+    /** 完整的 Java 类名：java.util.concurrent.locks.ReentrantReadWriteLock */
+    JAVA_FQN {
+        @Override
+        String next(Random r) {
+            StringBuilder sb = new StringBuilder(pick(r, PACKAGE_ROOTS));
+            int n = 2 + r.nextInt(5);
+            for (int i = 0; i < n; i++) sb.append('.').append(pick(r, WORDS).toLowerCase());
+            sb.append('.');
+            int m = 2 + r.nextInt(3);
+            for (int i = 0; i < m; i++) sb.append(r.nextInt(5) == 0 ? pick(r, ACRONYMS) : capitalize(pick(r, WORDS)));
+            return sb.toString();
+        }
+
+        @Override
+        Case.TokenizerConfig config() {
+            return new Case.TokenizerConfig.Builder()
+                    .delimiters(".")
+                    .protectedRules(Case.SplitRule.CASE)
+                    .build();
+        }
+    },
+
+    /** 大量使用 :: 的 C++ 限定名：std::chrono::steady_clock::time_point */
+    CPP_SCOPED {
+        @Override
+        String next(Random r) {
+            StringBuilder sb = new StringBuilder(r.nextBoolean() ? "std" : "boost");
+            int n = 2 + r.nextInt(4);
+            for (int i = 0; i < n; i++) {
+                sb.append("::");
+                String a = pick(r, WORDS), b = pick(r, WORDS);
+                switch (r.nextInt(3)) {
+                    case 0 -> sb.append(a.toLowerCase()).append('_').append(b.toLowerCase());
+                    case 1 -> sb.append(capitalize(a)).append(capitalize(b));
+                    default -> sb.append(a.toLowerCase()).append(capitalize(b));
+                }
+            }
+            if (r.nextInt(4) == 0) sb.append("->").append(pick(r, WORDS).toLowerCase());
+            return sb.toString();
+        }
+
+        @Override
+        Case.TokenizerConfig config() {
+            return new Case.TokenizerConfig.Builder()
+                    .delimiters("::", "->")
+                    .protectedRules(Case.SplitRule.NUMBER)
+                    .build();
+        }
+    },
+
+    /** 中日文与拉丁字母混排的本地化键名：用户Name、ログインButton、错误码404Message */
+    CJK_MIXED {
+        @Override
+        String next(Random r) {
+            StringBuilder sb = new StringBuilder();
+            int n = 2 + r.nextInt(3);
+            for (int i = 0; i < n; i++) {
+                switch (r.nextInt(4)) {
+                    case 0 -> sb.append(pick(r, CJK_WORDS));
+                    case 1 -> sb.append(capitalize(pick(r, WORDS)));
+                    case 2 -> sb.append('_').append(pick(r, WORDS).toLowerCase());
+                    default -> sb.append(pick(r, CJK_WORDS)).append(r.nextInt(1000));
+                }
+            }
+            return sb.toString();
+        }
+
+        @Override
+        Case.TokenizerConfig config() { return Case.TokenizerConfig.defaults(); }
+    };
+
+    /** 每份语料的条目数 */
+    public static final int SIZE = 1024;
+
+    private static final long SEED = 0x4D54_436F_6E76L;
+
+    private static final String[] WORDS = {
+            "app", "name", "ok", "cancel", "button", "submit", "user", "id", "value", "server",
+            "request", "response", "handler", "manager", "factory", "config", "title", "message",
+            "error", "dialog", "view", "model", "list", "item", "cache", "buffer", "reader", "writer",
+            "lock", "read", "write", "reentrant", "concurrent", "stream", "token", "parser", "login",
+            "settings", "network", "file", "path", "size", "count", "index", "default", "color", "theme"
+    };
+    private static final String[] ACRONYMS = { "HTTP", "URL", "XML", "JSON", "UI", "IO", "API", "SQL", "UTF8" };
+    private static final String[] PACKAGE_ROOTS = { "java", "javax", "android", "androidx", "com.example", "org.apache", "bin.mt" };
+    private static final String[] CJK_WORDS = {
+            "用户", "设置", "错误码", "标题", "确定", "取消", "文件", "网络", "提示", "默认",
+            "ログイン", "ボタン", "設定", "名前", "사용자", "설정"
+    };
+
+    abstract String next(Random r);
+
+    /** 与该语料匹配的分词器配置 */
+    abstract Case.TokenizerConfig config();
+
+    /** 生成固定的语料数组 */
+    public String[] generate() { return generate(SIZE); }
+
+    /** 生成指定条目数的固定语料数组 */
+    public String[] generate(int size) {
+        Random r = new Random(SEED + ordinal());
+        String[] out = new String[size];
+        for (int i = 0; i < size; i++) out[i] = next(r);
+        return out;
+    }
+
+    private static String pick(Random r, String[] arr) { return arr[r.nextInt(arr.length)]; }
+
+    private static String capitalize(String w) {
+        if (w.isEmpty()) return w;
+        return Character.toUpperCase(w.charAt(0)) + w.substring(1).toLowerCase();
+    }
+}
@@ -0,0 +1,67 @@
+package guobao.plugin.converter;
+
+import java.text.Normalizer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Unicode 规范化的基准测试：逐条调用 Normalizer.normalize 与先快速检查的实现对比
+ *
+ * <p>输入模拟一份字符串表：中英文混合的词条，其中 {@code dirtyPercent}% 的词条含有分解形式的字母，分数为每秒完成的整表规范化次数。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TextNormalizerBenchmark {
+
+    /** 词条数 */
+    @Param({"10000"})
+    public int entries;
+
+    /** 需要规范化的词条比例 */
+    @Param({"0", "5"})
+    public int dirtyPercent;
+
+    private String[] table;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(0x4D54_436F_6E76L);
+        table = new String[entries];
+        for (int n = 0; n < entries; n++) {
+            StringBuilder sb = new StringBuilder();
+            int words = 1 + r.nextInt(6);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) sb.append(' ');
+                if (r.nextBoolean()) {
+                    for (int i = 3 + r.nextInt(6); i > 0; i--) sb.append((char) ('a' + r.nextInt(26)));
+                } else {
+                    for (int i = 2 + r.nextInt(4); i > 0; i--) sb.append((char) (0x4E00 + r.nextInt(0x5000)));
+                    sb.append('，');
+                }
+            }
+            if (r.nextInt(100) < dirtyPercent) sb.append("é");
+            table[n] = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public void normalizer(Blackhole bh) {
+        for (String s : table) bh.consume(Normalizer.normalize(s, Normalizer.Form.NFC));
+    }
+
+    @Benchmark
+    public void quickCheck(Blackhole bh) {
+        for (String s : table) bh.consume(TextNormalizer.normalize(s, Normalizer.Form.NFC));
+    }
+}
@@ -0,0 +1,84 @@
+package guobao.plugin.converter;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Unicode 转义编解码的基准测试：旧的 chars() + String.format 编码、正则解码与查表实现对比
+ *
+ * <p>输入模拟一份本地化的 JSON 文件：键名为 ASCII，值为中文与少量 emoji，分数为每秒完成的整份编码（解码）次数。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UnicodeEscapeBenchmark {
+
+    /** 输入长度（字符数） */
+    @Param({"1048576"})
+    public int size;
+
+    private static final Pattern UNICODE_PATTERN = Pattern.compile("\\\\u([0-9a-fA-F]{4})");
+
+    private String json;
+    private String escaped;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(0x4D54_436F_6E76L);
+        StringBuilder sb = new StringBuilder(size + 64).append("{\n");
+        for (int n = 0; sb.length() < size; n++) {
+            sb.append("  \"key_").append(n).append("\": \"");
+            int len = 4 + r.nextInt(12);
+            for (int i = 0; i < len; i++) {
+                if (r.nextInt(32) == 0) sb.appendCodePoint(0x1F600 + r.nextInt(64));
+                else sb.append((char) (0x4E00 + r.nextInt(0x5000)));
+            }
+            sb.append("\",\n");
+        }
+        json = sb.append('}').toString();
+        escaped = UnicodeEscape.encode(json, 0);
+    }
+
+    @Benchmark
+    public String legacy() {
+        return json.chars()
+                .mapToObj(c -> c < 128 ? String.valueOf((char) c) : String.format("\\u%04x", c))
+                .collect(Collectors.joining());
+    }
+
+    @Benchmark
+    public String table() {
+        return UnicodeEscape.encode(json, 0);
+    }
+
+    @Benchmark
+    public String legacyDecode() {
+        // 与 StringCompat.replaceAllCompat 的实现相同
+        Matcher m = UNICODE_PATTERN.matcher(escaped);
+        StringBuffer sb = new StringBuffer();
+        while (m.find()) {
+            String hex = m.toMatchResult().group(1);
+            String ch = new String(Character.toChars(Integer.parseInt(hex, 16)));
+            m.appendReplacement(sb, Matcher.quoteReplacement(ch));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String tableDecode() {
+        return UnicodeEscape.decode(escaped, 0);
+    }
+}
@@ -0,0 +1,427 @@
+package guobao.plugin.converter;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import guobao.plugin.converter.util.StringByte;
+
+/**
+ * 十六进制、Base64 与百分号编码（URL 编码）
+ *
+ * <p>设计要点：
+ * <ul>
+ *   <li>编码与解码都查表完成，不使用 String.format、Integer.toHexString 或 java.util.Base64 的临时数组。</li>
+ *   <li>字符与字节之间的转换由 {@link StringByte} 分块完成，编码器、解码器本身也只持有固定大小的缓冲区，
+ *       处理 MB 级别的文本时不会生成整段的 byte[]。</li>
+ *   <li>十六进制与 Base64 解码时忽略空白，大小写、标准与 URL 安全两种字母表都可识别；遇到其他字符时抛出 IllegalArgumentException。</li>
+ *   <li>百分号解码与浏览器行为一致：格式不完整的 %XX 原样保留。</li>
+ * </ul>
+ *
+ * <p>示例：
+ * <pre>{@code
+ * ByteCodec.encode("中文", ByteCodec.Format.HEX, StandardCharsets.UTF_8);       // "e4b8ade69687"
+ * ByteCodec.encode("a b/中", ByteCodec.Format.PERCENT, StandardCharsets.UTF_8); // "a%20b%2F%E4%B8%AD"
+ * ByteCodec.decode("5Lit5paH", ByteCodec.Format.BASE64, StandardCharsets.UTF_8); // "中文"
+ * }</pre>
+ */
+public final class ByteCodec {
+
+    private ByteCodec() {}
+
+    /** 编码格式 */
+    public enum Format {
+        /** 小写十六进制，字节之间没有分隔符 */
+        HEX,
+        /** 标准 Base64（RFC 4648 第 4 节），带填充 */
+        BASE64,
+        /** URL 安全的 Base64（RFC 4648 第 5 节），不带填充 */
+        BASE64_URL,
+        /** 百分号编码（RFC 3986），只保留非保留字符 */
+        PERCENT
+    }
+
+    private static final char[] HEX_LOWER = "0123456789abcdef".toCharArray();
+    private static final char[] HEX_UPPER = "0123456789ABCDEF".toCharArray();
+    private static final char[] BASE64_STD = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final char[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    // ASCII 字符对应的数值，不是有效字符时为 -1
+    private static final byte[] HEX_VALUE = new byte[128];
+    private static final byte[] BASE64_VALUE = new byte[128];
+    // RFC 3986 的非保留字符：字母、数字与 -._~
+    private static final boolean[] UNRESERVED = new boolean[128];
+
+    static {
+        Arrays.fill(HEX_VALUE, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUE[HEX_LOWER[i]] = (byte) i;
+            HEX_VALUE[HEX_UPPER[i]] = (byte) i;
+        }
+        Arrays.fill(BASE64_VALUE, (byte) -1);
+        for (int i = 0; i < 64; i++) {
+            BASE64_VALUE[BASE64_STD[i]] = (byte) i;
+            BASE64_VALUE[BASE64_URL[i]] = (byte) i;
+        }
+        for (char c = 'a'; c <= 'z'; c++) UNRESERVED[c] = true;
+        for (char c = 'A'; c <= 'Z'; c++) UNRESERVED[c] = true;
+        for (char c = '0'; c <= '9'; c++) UNRESERVED[c] = true;
+        UNRESERVED['-'] = UNRESERVED['.'] = UNRESERVED['_'] = UNRESERVED['~'] = true;
+    }
+
+    /**
+     * 把文本按 charset 转为字节后编码。
+     *
+     * @return 编码结果，输入为 null 时返回 null
+     */
+    public static String encode(String text, Format format, Charset charset) throws IOException {
+        if (text == null) return null;
+        StringBuilder out = new StringBuilder(encodedLengthHint(text.length(), format));
+        encode(text, 0, text.length(), format, charset, out);
+        return out.toString();
+    }
+
+    /**
+     * 编码 src 的 [start, end) 区间并追加到 out。
+     *
+     * @return out
+     */
+    public static StringBuilder encode(CharSequence src, int start, int end, Format format, Charset charset, StringBuilder out) throws IOException {
+        Encoder encoder = new Encoder(format, out);
+        StringByte.encode(src, start, end, charset, encoder);
+        encoder.finish();
+        return out;
+    }
+
+    /**
+     * 解码后把字节按 charset 转为文本。
+     *
+     * @return 解码结果，输入为 null 时返回 null
+     * @throws IllegalArgumentException 十六进制或 Base64 中包含无效字符、长度不完整
+     */
+    public static String decode(String text, Format format, Charset charset) throws IOException {
+        if (text == null) return null;
+        StringBuilder out = new StringBuilder(text.length());
+        decode(text, 0, text.length(), format, charset, out);
+        return out.toString();
+    }
+
+    /**
+     * 解码 src 的 [start, end) 区间并追加到 out。
+     *
+     * @return out
+     * @throws IllegalArgumentException 同 {@link #decode(String, Format, Charset)}
+     */
+    public static StringBuilder decode(CharSequence src, int start, int end, Format format, Charset charset, StringBuilder out) throws IOException {
+        StringByte.Decoder chars = new StringByte.Decoder(charset);
+        Decoder decoder = new Decoder(format, charset, (b, off, len) -> chars.write(b, off, len, out));
+        decoder.write(src, start, end);
+        decoder.finish();
+        chars.finish(out);
+        return out;
+    }
+
+    /** 按一个字符对应一个字节估算的编码结果长度 */
+    private static int encodedLengthHint(int chars, Format format) {
+        long n = switch (format) {
+            case HEX -> chars * 2L;
+            case BASE64, BASE64_URL -> (chars + 2L) / 3 * 4;
+            case PERCENT -> chars + 16L;
+        };
+        return (int) Math.min(n, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * 分块编码器：依次写入字节块，编码结果追加到 StringBuilder，全部写入后调用 {@link #finish()}。
+     */
+    public static final class Encoder implements StringByte.ByteSink {
+        // 每个字节最多对应 3 个字符（百分号编码）
+        private static final int MAX_CHARS_PER_BYTE = 3;
+
+        private final Format format;
+        private final StringBuilder out;
+        // 编码结果先写入字符数组，满后整块追加，避免逐字符调用 append
+        private final char[] chars = new char[StringByte.BUFFER_SIZE];
+        // Base64 尚未凑满 3 个字节的部分
+        private int carry;
+        private int carryBytes;
+
+        public Encoder(Format format, StringBuilder out) {
+            this.format = format;
+            this.out = out;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // 每次处理的字节数保证结果能放进字符数组
+            final int step = chars.length / (MAX_CHARS_PER_BYTE * 4) * 3;
+            for (int end = off + len; off < end; off += step) {
+                int to = Math.min(end, off + step);
+                int n = switch (format) {
+                    case HEX -> writeHex(b, off, to);
+                    case PERCENT -> writePercent(b, off, to);
+                    case BASE64, BASE64_URL -> writeBase64(b, off, to);
+                };
+                out.append(chars, 0, n);
+            }
+        }
+
+        private int writeHex(byte[] b, int off, int end) {
+            final char[] hex = HEX_LOWER;
+            final char[] c = chars;
+            int p = 0;
+            for (int i = off; i < end; i++) {
+                int v = b[i] & 0xFF;
+                c[p++] = hex[v >>> 4];
+                c[p++] = hex[v & 0xF];
+            }
+            return p;
+        }
+
+        private int writePercent(byte[] b, int off, int end) {
+            final char[] hex = HEX_UPPER;
+            final char[] c = chars;
+            int p = 0;
+            for (int i = off; i < end; i++) {
+                int v = b[i] & 0xFF;
+                if (v < 128 && UNRESERVED[v]) {
+                    c[p++] = (char) v;
+                } else {
+                    c[p++] = '%';
+                    c[p++] = hex[v >>> 4];
+                    c[p++] = hex[v & 0xF];
+                }
+            }
+            return p;
+        }
+
+        private int writeBase64(byte[] b, int off, int end) {
+            final char[] table = format == Format.BASE64_URL ? BASE64_URL : BASE64_STD;
+            int i = off;
+            int p = 0;
+            // 先补全上一块剩下的字节
+            while (carryBytes > 0 && carryBytes < 3 && i < end) {
+                carry = (carry << 8) | (b[i++] & 0xFF);
+                carryBytes++;
+            }
+            if (carryBytes == 3) {
+                p = putGroup(table, carry, p);
+                carry = carryBytes = 0;
+            }
+            for (; i + 2 < end; i += 3) {
+                p = putGroup(table, (b[i] & 0xFF) << 16 | (b[i + 1] & 0xFF) << 8 | (b[i + 2] & 0xFF), p);
+            }
+            while (i < end) {
+                carry = (carry << 8) | (b[i++] & 0xFF);
+                carryBytes++;
+            }
+            return p;
+        }
+
+        private int putGroup(char[] table, int v, int p) {
+            final char[] c = chars;
+            c[p] = table[v >>> 18];
+            c[p + 1] = table[(v >>> 12) & 0x3F];
+            c[p + 2] = table[(v >>> 6) & 0x3F];
+            c[p + 3] = table[v & 0x3F];
+            return p + 4;
+        }
+
+        /** 输出 Base64 末尾不足 3 个字节的部分 */
+        public void finish() {
+            if (carryBytes == 0) return;
+            final boolean url = format == Format.BASE64_URL;
+            final char[] table = url ? BASE64_URL : BASE64_STD;
+            int v = carry << (carryBytes == 1 ? 16 : 8);
+            out.append(table[v >>> 18]).append(table[(v >>> 12) & 0x3F]);
+            if (carryBytes == 2) out.append(table[(v >>> 6) & 0x3F]);
+            if (!url) out.append(carryBytes == 1 ? "==" : "=");
+            carry = carryBytes = 0;
+        }
+    }
+
+    /**
+     * 分块解码器：依次写入文本片段，解码得到的字节按块交给 {@link StringByte.ByteSink}，全部写入后调用 {@link #finish()}。
+     */
+    public static final class Decoder {
+        private final Format format;
+        private final Charset charset;
+        private final StringByte.ByteSink sink;
+        private final byte[] buf = new byte[StringByte.BUFFER_SIZE];
+        private int pos;
+        // 十六进制：已读取的半个字节；Base64：已读取的 6 位组；百分号：% 之后已读取的数字
+        private int bits;
+        private int count;
+        // Base64 已遇到填充符，之后只允许填充符与空白
+        private boolean padded;
+        // 百分号编码中 % 所在的状态：0 不在序列中，1 刚读到 %，2 读到 % 和一位数字
+        private int percent;
+        private char percentDigit;
+        // 百分号编码中原样出现的非 ASCII 字符，需要按 charset 转为字节
+        private StringBuilder literal;
+
+        public Decoder(Format format, Charset charset, StringByte.ByteSink sink) {
+            this.format = format;
+            this.charset = charset;
+            this.sink = sink;
+        }
+
+        /**
+         * 解码 src 的 [start, end) 区间。
+         *
+         * @throws IllegalArgumentException 十六进制或 Base64 中包含无效字符
+         */
+        public void write(CharSequence src, int start, int end) throws IOException {
+            switch (format) {
+                case HEX -> writeHex(src, start, end);
+                case BASE64, BASE64_URL -> writeBase64(src, start, end);
+                case PERCENT -> writePercent(src, start, end);
+            }
+        }
+
+        /**
+         * 结束解码，输出缓冲区中剩余的字节。
+         *
+         * @throws IllegalArgumentException 十六进制或 Base64 的长度不完整
+         */
+        public void finish() throws IOException {
+            switch (format) {
+                case HEX -> {
+                    if (count != 0) throw new IllegalArgumentException("odd number of hex digits");
+                }
+                case BASE64, BASE64_URL -> {
+                    // 2 组对应 1 个字节，3 组对应 2 个字节，1 组不足一个字节
+                    if (count == 1) throw new IllegalArgumentException("truncated base64");
+                    if (count == 2) put(bits >>> 4);
+                    if (count == 3) {
+                        put(bits >>> 10);
+                        put(bits >>> 2);
+                    }
+                }
+                case PERCENT -> {
+                    flushPercent();
+                    flushLiteral();
+                }
+            }
+            bits = count = percent = 0;
+            padded = false;
+            flush();
+        }
+
+        private void writeHex(CharSequence src, int start, int end) throws IOException {
+            for (int i = start; i < end; i++) {
+                char c = src.charAt(i);
+                int v = c < 128 ? HEX_VALUE[c] : -1;
+                if (v < 0) {
+                    if (Character.isWhitespace(c)) continue;
+                    throw new IllegalArgumentException("invalid hex digit '" + c + "' at " + (i - start));
+                }
+                if (count == 0) {
+                    bits = v;
+                    count = 1;
+                } else {
+                    put(bits << 4 | v);
+                    count = 0;
+                }
+            }
+        }
+
+        private void writeBase64(CharSequence src, int start, int end) throws IOException {
+            final byte[] table = BASE64_VALUE;
+            for (int i = start; i < end; i++) {
+                if (count == 0 && !padded) {
+                    // 快速路径：4 个字符都有效时一次得到 3 个字节，任何一个无效（-1）都会使结果为负
+                    while (i + 4 <= end) {
+                        char c0 = src.charAt(i), c1 = src.charAt(i + 1), c2 = src.charAt(i + 2), c3 = src.charAt(i + 3);
+                        if ((c0 | c1 | c2 | c3) >= 128) break;
+                        int v = table[c0] << 18 | table[c1] << 12 | table[c2] << 6 | table[c3];
+                        if (v < 0) break;
+                        if (pos + 3 > buf.length) flush();
+                        buf[pos] = (byte) (v >>> 16);
+                        buf[pos + 1] = (byte) (v >>> 8);
+                        buf[pos + 2] = (byte) v;
+                        pos += 3;
+                        i += 4;
+                    }
+                    if (i == end) break;
+                }
+                char c = src.charAt(i);
+                int v = c < 128 ? table[c] : -1;
+                if (v < 0) {
+                    if (c == '=') {
+                        padded = true;
+                        continue;
+                    }
+                    if (Character.isWhitespace(c)) continue;
+                    throw new IllegalArgumentException("invalid base64 character '" + c + "' at " + (i - start));
+                }
+                if (padded) throw new IllegalArgumentException("base64 data after padding at " + (i - start));
+                bits = bits << 6 | v;
+                if (++count == 4) {
+                    put(bits >>> 16);
+                    put(bits >>> 8);
+                    put(bits);
+                    bits = count = 0;
+                }
+            }
+        }
+
+        private void writePercent(CharSequence src, int start, int end) throws IOException {
+            for (int i = start; i < end; i++) {
+                char c = src.charAt(i);
+                if (percent > 0) {
+                    int v = c < 128 ? HEX_VALUE[c] : -1;
+                    if (v >= 0) {
+                        if (percent == 1) {
+                            percentDigit = c;
+                            percent = 2;
+                        } else {
+                            put(HEX_VALUE[percentDigit] << 4 | v);
+                            percent = 0;
+                        }
+                        continue;
+                    }
+                    // 不完整的序列原样保留，当前字符按普通字符处理
+                    flushPercent();
+                }
+                if (c == '%') {
+                    flushLiteral();
+                    percent = 1;
+                } else if (c < 128) {
+                    flushLiteral();
+                    put(c);
+                } else {
+                    if (literal == null) literal = new StringBuilder();
+                    literal.append(c);
+                }
+            }
+        }
+
+        /** 把未完成的 % 序列按原文输出 */
+        private void flushPercent() throws IOException {
+            if (percent == 0) return;
+            put('%');
+            if (percent == 2) put(percentDigit);
+            percent = 0;
+        }
+
+        /** 把积累的非 ASCII 字符按 charset 转为字节输出，代理对不会被拆开 */
+        private void flushLiteral() throws IOException {
+            if (literal == null || literal.length() == 0) return;
+            flush();
+            StringByte.encode(literal, 0, literal.length(), charset, sink);
+            literal.setLength(0);
+        }
+
+        private void put(int b) throws IOException {
+            if (pos == buf.length) flush();
+            buf[pos++] = (byte) b;
+        }
+
+        private void flush() throws IOException {
+            if (pos == 0) return;
+            sink.write(buf, 0, pos);
+            pos = 0;
+        }
+    }
+}
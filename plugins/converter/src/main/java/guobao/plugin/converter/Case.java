@@ -1,21 +1,25 @@
 package guobao.plugin.converter;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * 命名风格转换工具类
  *
  * <p>设计要点：
  * <ul>
- *   <li>分词阶段仅记录 char[] 的区间索引（Token），避免 substring 分配。</li>
+ *   <li>分词阶段仅把词的区间索引写入可复用的 int[]（TokenBuffer），直接读取 CharSequence，避免 toCharArray / substring 及逐词分配对象。</li>
  *   <li>规则配置使用 RuleSet + Builder 风格，支持链式配置</li>
- *   <li>extraDelimiters 使用 Trie 进行最长匹配以提升性能（构造时对分隔符进行了清理与按长度排序）</li>
+ *   <li>extraDelimiters 使用紧凑 Trie（有序出边 + 二分查找，支持任意 char）进行最长匹配以提升性能（构造时对分隔符进行了清理与按长度排序）</li>
  * </ul>
  *
  * <p>示例用法：
@@ -36,15 +40,64 @@ import java.util.Set;
 public final class Case {
 
     /**
-     * 表示原始字符数组 buf 中的区间 [start, end)
+     * 分词结果缓冲区，按 [start0, end0, start1, end1, ...] 的顺序记录每个词在源字符序列中的区间 [start, end)。
+     *
+     * <p>缓冲区可重复使用，容量不足时自动扩容，分词过程中不会为每个词分配对象。
+     * 非线程安全：多线程场景请每个线程各自持有一个实例。
      */
-    private static final class Token {
-        final int start;
-        final int end;
-        Token(int s, int e) { start = s; end = e; }
-        int len() { return end - start; }
+    public static final class TokenBuffer {
+        private int[] bounds;
+        private int size;
+
+        public TokenBuffer() { this(16); }
+
+        /** @param capacity 预期的词数量 */
+        public TokenBuffer(int capacity) { bounds = new int[Math.max(1, capacity) * 2]; }
+
+        /** 词的数量 */
+        public int size() { return size; }
+
+        /** 第 i 个词的起始位置（包含） */
+        public int start(int i) { return bounds[i << 1]; }
+
+        /** 第 i 个词的结束位置（不包含） */
+        public int end(int i) { return bounds[(i << 1) + 1]; }
+
+        /** 清空内容，保留已分配的容量 */
+        public void clear() { size = 0; }
+
+        void add(int start, int end) {
+            int idx = size << 1;
+            if (idx + 1 >= bounds.length) bounds = Arrays.copyOf(bounds, bounds.length << 1);
+            bounds[idx] = start;
+            bounds[idx + 1] = end;
+            size++;
+        }
+    }
+
+    /**
+     * 每个线程复用的临时缓冲区：分词结果与输出用的 StringBuilder
+     */
+    private static final class Scratch {
+        /** 超过该容量的 StringBuilder 不再保留，避免偶发的超长输入长期占用内存 */
+        private static final int MAX_RETAINED_CAPACITY = 8192;
+
+        final TokenBuffer tokens = new TokenBuffer();
+        private StringBuilder sb = new StringBuilder(64);
+
+        StringBuilder builder() {
+            if (sb.capacity() > MAX_RETAINED_CAPACITY) sb = new StringBuilder(64);
+            else sb.setLength(0);
+            return sb;
+        }
     }
 
+    // 不使用 ThreadLocal.withInitial，它需要 API 26
+    private static final ThreadLocal<Scratch> SCRATCH = new ThreadLocal<Scratch>() {
+        @Override
+        protected Scratch initialValue() { return new Scratch(); }
+    };
+
     /**
      * 单个拆分规则枚举。未来新增规则只需在此新增枚举项即可。
      */
@@ -53,10 +106,51 @@ public final class Case {
         CASE,
         /** 按数字边界拆分（字母与数字相邻时切分） */
         NUMBER,
-        /** 预留：按符号/Unicode 类别等拆分 */
+        /** 按 Unicode 类别拆分：符号（数学符号、货币符号、emoji 等）单独成词，不同文字（拉丁字母、汉字、假名、谚文）相邻时切分 */
         SYMBOL
     }
 
+    /**
+     * 命名风格，名称与插件中的转换目标一一对应（小写形式，如 "snake"）
+     */
+    public enum Style {
+        /** snake_case */
+        SNAKE("_"),
+        /** SCREAMING_SNAKE_CASE */
+        CONSTANT("_"),
+        /** camelCase（保留缩写的大写形式） */
+        CAMEL(null),
+        /** PascalCase（保留缩写的大写形式） */
+        PASCAL(null),
+        /** kebab-case */
+        KEBAB("-"),
+        /** chain.case */
+        CHAIN("."),
+        /** path/case */
+        PATH("/"),
+        /** space case */
+        SPACE(" ");
+
+        /** 词之间的分隔符，驼峰风格为 null */
+        public final String separator;
+
+        Style(String separator) { this.separator = separator; }
+
+        /**
+         * 根据转换目标名获取风格。
+         *
+         * @param name 目标名，如 "snake"、"camel"
+         * @return 对应的风格，不是命名风格时返回 null
+         */
+        public static Style of(String name) {
+            if (name == null) return null;
+            for (Style s : values()) {
+                if (s.name().equalsIgnoreCase(name)) return s;
+            }
+            return null;
+        }
+    }
+
     /**
      * 不可变的规则集合，基于 EnumSet 实现，提供工厂方法与常用常量
      */
@@ -92,6 +186,12 @@ public final class Case {
             return new RuleSet(copy);
         }
 
+        @Override
+        public boolean equals(Object o) { return o instanceof RuleSet other && rules.equals(other.rules); }
+
+        @Override
+        public int hashCode() { return rules.hashCode(); }
+
         @Override
         public String toString() { return rules.toString(); }
     }
@@ -114,6 +214,15 @@ public final class Case {
 
         // 内部：Trie，用于快速匹配 extraDelimiters（可能为 null）
         private final DelimiterTrie trie;
+        // 内部：规则展开为布尔值，避免分词循环中反复查询 EnumSet
+        private final boolean splitCase;
+        private final boolean splitNumber;
+        private final boolean splitSymbol;
+        private final boolean protectCase;
+        private final boolean protectNumber;
+        private final boolean protectSymbol;
+        // 内部：配置指纹，构造时计算一次，用作缓存键的一部分
+        private final int hash;
         /**
          * 仅供包内基准测试使用，获取分隔符 Trie
          */
@@ -125,10 +234,34 @@ public final class Case {
             this.protectedRules = b.protectedRules;
             this.splitUpperContinuous = b.splitUpperContinuous;
             this.trie = (this.extraDelimiters == null) ? null : new DelimiterTrie(this.extraDelimiters);
+            this.splitCase = rules.has(SplitRule.CASE);
+            this.splitNumber = rules.has(SplitRule.NUMBER);
+            this.splitSymbol = rules.has(SplitRule.SYMBOL);
+            this.protectCase = protectedRules.has(SplitRule.CASE);
+            this.protectNumber = protectedRules.has(SplitRule.NUMBER);
+            this.protectSymbol = protectedRules.has(SplitRule.SYMBOL);
+            this.hash = Objects.hash(rules, extraDelimiters, protectedRules, splitUpperContinuous);
+        }
+
+        /** 规则、分隔符与保护规则都相同的配置视为相等，分词结果也必然相同 */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TokenizerConfig other)) return false;
+            return hash == other.hash
+                    && splitUpperContinuous == other.splitUpperContinuous
+                    && rules.equals(other.rules)
+                    && protectedRules.equals(other.protectedRules)
+                    && Objects.equals(extraDelimiters, other.extraDelimiters);
         }
 
-        /** 获取默认配置（等价于旧行为：启用 CASE 与 NUMBER，不启用 extraDelimiters）。 */
-        public static TokenizerConfig defaults() { return new Builder().build(); }
+        @Override
+        public int hashCode() { return hash; }
+
+        private static final TokenizerConfig DEFAULTS = new Builder().build();
+
+        /** 获取默认配置（等价于旧行为：启用 CASE 与 NUMBER，不启用 extraDelimiters）。配置不可变，返回共享实例。 */
+        public static TokenizerConfig defaults() { return DEFAULTS; }
 
         /**
          * Builder：链式构造 TokenizerConfig。
@@ -257,98 +390,337 @@ public final class Case {
     // 简单的拼接模式枚举
     private enum CaseMode { LOWER, UPPER, ORIGINAL }
 
+    // ===================== 字符分类 =====================
+
+    // 字符类别位标记，与 Character 的对应方法一一对应
+    /** {@link Character#isLetterOrDigit(char)} */
+    static final int ALNUM = 1;
+    /** {@link Character#isUpperCase(char)} */
+    static final int UPPER = 1 << 1;
+    /** {@link Character#isLowerCase(char)} */
+    static final int LOWER = 1 << 2;
+    /** {@link Character#isDigit(char)} */
+    static final int DIGIT = 1 << 3;
+    /** {@link Character#isLetter(char)} */
+    static final int LETTER = 1 << 4;
+
+    // 以下为 SYMBOL 规则使用的扩展类别，由 symbolClass 计算
+    /** 符号：Unicode 类别 Sm、Sc、Sk、So */
+    static final int SYMBOL = 1 << 5;
+    /** 文字类别占用的位，0 表示不属于任何文字（数字、符号等） */
+    static final int SCRIPT_MASK = 7 << 6;
+    /** 拉丁字母以及其他未单独区分的字母文字 */
+    static final int SCRIPT_LATIN = 1 << 6;
+    static final int SCRIPT_HAN = 2 << 6;
+    static final int SCRIPT_KANA = 3 << 6;
+    static final int SCRIPT_HANGUL = 4 << 6;
+    /** 扩展类别占用的全部位 */
+    static final int EXT_MASK = SYMBOL | SCRIPT_MASK;
+
+    /** ASCII 字符的类别表，分词时 ch < 0x80 直接查表，避免走完整的 Unicode 属性查询 */
+    private static final byte[] ASCII_CLASS = new byte[128];
+    /** ASCII 字符的类别位与扩展类别的组合，供启用 SYMBOL 规则时一次查表取得两者 */
+    private static final byte[] ASCII_FULL_CLASS = new byte[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            ASCII_CLASS[c] = (byte) classify(c);
+            int ext = (ASCII_CLASS[c] & LETTER) != 0 ? SCRIPT_LATIN : isSymbolType(Character.getType(c)) ? SYMBOL : 0;
+            ASCII_FULL_CLASS[c] = (byte) (ASCII_CLASS[c] | ext);
+        }
+    }
+
+    /**
+     * 非拉丁文字的码点范围表，每三项为 [起点, 终点, 文字类别]，按起点升序排列。
+     * 不在表中的字母均视为 {@link #SCRIPT_LATIN}。
+     */
+    private static final int[] SCRIPT_RANGES = {
+            0x1100, 0x11FF, SCRIPT_HANGUL,   // 谚文字母
+            0x2E80, 0x2FDF, SCRIPT_HAN,      // 部首
+            0x3005, 0x3007, SCRIPT_HAN,      // 々〆〇
+            0x3040, 0x30FF, SCRIPT_KANA,     // 平假名、片假名
+            0x3130, 0x318F, SCRIPT_HANGUL,   // 谚文兼容字母
+            0x31F0, 0x31FF, SCRIPT_KANA,     // 片假名音标扩展
+            0x3400, 0x4DBF, SCRIPT_HAN,      // 扩展 A
+            0x4E00, 0x9FFF, SCRIPT_HAN,      // 基本汉字
+            0xA960, 0xA97F, SCRIPT_HANGUL,
+            0xAC00, 0xD7FF, SCRIPT_HANGUL,   // 谚文音节
+            0xF900, 0xFAFF, SCRIPT_HAN,      // 兼容汉字
+            0xFF66, 0xFF9F, SCRIPT_KANA,     // 半角片假名
+            0xFFA0, 0xFFDC, SCRIPT_HANGUL,   // 半角谚文
+            0x1B000, 0x1B16F, SCRIPT_KANA,   // 假名补充
+            0x20000, 0x3134F, SCRIPT_HAN     // 扩展 B 及以后
+    };
+
+    /**
+     * BMP 字符的完整类别表（类别位与扩展类别），首次使用 SYMBOL 规则时载入。
+     *
+     * <p>两级查表：每 {@value UnicodeTableData#BLOCK_SIZE} 个字符为一块，内容相同的块只保存一份，
+     * 分词时每个字符只需两次数组访问，不再逐字符调用 Character 的属性查询。
+     * 表在构建前由 UnicodeTableGenerator（位于测试代码中）预先生成为 {@link UnicodeTableData} 中的字符串常量，
+     * 载入时只需复制为数组，不在运行时逐个分类 65536 个字符。
+     */
+    private static final class UnicodeTable {
+        /** 每个块在 DATA 中的起始位置 */
+        static final char[] INDEX = UnicodeTableData.INDEX.toCharArray();
+        static final char[] DATA = UnicodeTableData.DATA.toCharArray();
+
+        /** 类别位与扩展类别的组合 */
+        static int get(char c) {
+            return DATA[INDEX[c >>> UnicodeTableData.BLOCK_SHIFT] + (c & (UnicodeTableData.BLOCK_SIZE - 1))];
+        }
+    }
+
+    /**
+     * 字符的类别位与扩展类别的组合，用于生成 {@link UnicodeTableData}。
+     */
+    static int fullClass(int cp) {
+        int cls = classify(cp);
+        return cls | symbolClass(cp, cls);
+    }
+
+    private static boolean isSymbolType(int type) {
+        return type == Character.MATH_SYMBOL || type == Character.CURRENCY_SYMBOL
+                || type == Character.MODIFIER_SYMBOL || type == Character.OTHER_SYMBOL;
+    }
+
+    /** 获取 SYMBOL 规则使用的扩展类别：字母返回其文字类别，符号返回 {@link #SYMBOL}，其余返回 0 */
+    static int symbolClass(char ch) {
+        return (ch < 128 ? ASCII_FULL_CLASS[ch] : UnicodeTable.get(ch)) & EXT_MASK;
+    }
+
+    /** 增补平面字符的扩展类别，直接查询 Character */
+    private static int symbolClass(int cp, int cls) {
+        if ((cls & LETTER) != 0) return script(cp);
+        return isSymbolType(Character.getType(cp)) ? SYMBOL : 0;
+    }
+
+    /** 查找字母所属的文字类别 */
+    private static int script(int cp) {
+        if (cp < SCRIPT_RANGES[0]) return SCRIPT_LATIN;
+        // 最常见的基本汉字区直接返回
+        if (cp >= 0x4E00 && cp <= 0x9FFF) return SCRIPT_HAN;
+        int lo = 0, hi = SCRIPT_RANGES.length / 3 - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int i = mid * 3;
+            if (cp < SCRIPT_RANGES[i]) hi = mid - 1;
+            else if (cp > SCRIPT_RANGES[i + 1]) lo = mid + 1;
+            else return SCRIPT_RANGES[i + 2];
+        }
+        return SCRIPT_LATIN;
+    }
+
+    /** 获取字符的类别位标记：ASCII 查表，其余字符回退到 Character */
+    static int charClass(char ch) {
+        return ch < 128 ? ASCII_CLASS[ch] : classify(ch);
+    }
+
+    private static int classify(int ch) {
+        int cls = 0;
+        if (Character.isLetterOrDigit(ch)) cls |= ALNUM;
+        if (Character.isUpperCase(ch)) cls |= UPPER;
+        if (Character.isLowerCase(ch)) cls |= LOWER;
+        if (Character.isDigit(ch)) cls |= DIGIT;
+        if (Character.isLetter(ch)) cls |= LETTER;
+        return cls;
+    }
+
     // ===================== Delimiter Trie（同前） =====================
 
+    /**
+     * 紧凑的分隔符 Trie，以完整的 char 为键。
+     *
+     * <p>所有节点按广度优先顺序编号，每个节点的出边连续存放在 edgeChar / edgeTarget 中并按字符升序排列，
+     * 匹配时对出边做二分查找。内存占用约为每条边 6 字节，与字符的取值范围无关；
+     * 最长匹配的耗时仍与分隔符长度成正比。
+     */
     // 由于基准测试需要，设为包级可见
     /* private */ static final class DelimiterTrie {
-        private final Node root = new Node();
-
-        private static final class Node {
-            Node[] next = null;
-            String value = null;
-            void ensure() { if (next == null) next = new Node[256]; }
-        }
+        /** 节点 n 的出边位于 [edgeStart[n], edgeStart[n + 1]) */
+        private final int[] edgeStart;
+        private final char[] edgeChar;
+        private final int[] edgeTarget;
+        /** 节点 n 是否为某个分隔符的结尾 */
+        private final boolean[] terminal;
+        /** 根节点的 ASCII 出边直接索引（子节点编号，0 表示无），绝大多数位置在第一个字符就能排除 */
+        private final int[] rootAscii = new int[128];
 
         DelimiterTrie(List<String> delims) {
+            List<String> list = new ArrayList<>(delims.size());
             for (String d : delims) {
                 if (d == null || d.isEmpty()) continue;
-                add(d);
+                list.add(d);
             }
-        }
+            // 按 UTF-16 字符序排序并去重后，拥有相同前缀的分隔符是连续的一段
+            Collections.sort(list);
+            String[] keys = new String[list.size()];
+            int n = 0;
+            for (String d : list) if (n == 0 || !keys[n - 1].equals(d)) keys[n++] = d;
 
-        private void add(String s) {
-            Node cur = root;
-            for (int i = 0; i < s.length(); i++) {
-                char ch = s.charAt(i);
-                int idx = ch & 0xFF;
-                if (cur.next == null) cur.next = new Node[256];
-                if (cur.next[idx] == null) cur.next[idx] = new Node();
-                cur = cur.next[idx];
+            int cap = 1;
+            for (int k = 0; k < n; k++) cap += keys[k].length();
+            // 广度优先建树：每个节点对应 keys 中的一段 [lo, hi)，这些分隔符的前 depth 个字符相同
+            int[] lo = new int[cap], hi = new int[cap], depth = new int[cap];
+            int[] starts = new int[cap + 1];
+            char[] chars = new char[cap];
+            int[] targets = new int[cap];
+            boolean[] term = new boolean[cap];
+            hi[0] = n;
+            int nodes = 1, edges = 0;
+            for (int node = 0; node < nodes; node++) {
+                int l = lo[node], h = hi[node], d = depth[node];
+                starts[node] = edges;
+                // 去重后至多一个分隔符恰好在此结束，且按字典序排在最前
+                if (l < h && keys[l].length() == d) { term[node] = true; l++; }
+                while (l < h) {
+                    char c = keys[l].charAt(d);
+                    int j = l + 1;
+                    while (j < h && keys[j].charAt(d) == c) j++;
+                    chars[edges] = c;
+                    targets[edges] = nodes;
+                    edges++;
+                    lo[nodes] = l;
+                    hi[nodes] = j;
+                    depth[nodes] = d + 1;
+                    nodes++;
+                    l = j;
+                }
             }
-            cur.value = s;
-        }
-
-        String longestMatch(char[] buf, int pos, int len) {
-            Node cur = root;
-            String best = null;
-            int i = pos;
-            while (i < len && cur != null) {
-                if (cur.next == null) break;
-                int idx = buf[i] & 0xFF;
-                Node next = cur.next[idx];
-                if (next == null) break;
-                cur = next;
-                if (cur.value != null) best = cur.value;
-                i++;
+            starts[nodes] = edges;
+
+            this.edgeStart = Arrays.copyOf(starts, nodes + 1);
+            this.edgeChar = Arrays.copyOf(chars, edges);
+            this.edgeTarget = Arrays.copyOf(targets, edges);
+            this.terminal = Arrays.copyOf(term, nodes);
+            for (int e = starts[0]; e < starts[1]; e++) {
+                if (chars[e] < 128) rootAscii[chars[e]] = targets[e];
+            }
+        }
+
+        /**
+         * 在 src 的 pos 位置进行最长匹配。
+         *
+         * @return 匹配到的分隔符长度，未匹配返回 0
+         */
+        int longestMatch(CharSequence src, int pos, int end) {
+            if (pos >= end) return 0;
+            char first = src.charAt(pos);
+            int node = first < 128 ? rootAscii[first] : step(0, first);
+            if (node <= 0) return 0;
+            int best = terminal[node] ? 1 : 0;
+            for (int i = pos + 1; i < end; i++) {
+                node = step(node, src.charAt(i));
+                if (node < 0) break;
+                if (terminal[node]) best = i - pos + 1;
             }
             return best;
         }
+
+        /** 沿字符 c 的出边前进，返回子节点编号，没有该出边返回 -1 */
+        private int step(int node, char c) {
+            int l = edgeStart[node], h = edgeStart[node + 1] - 1;
+            while (l <= h) {
+                int mid = (l + h) >>> 1;
+                char m = edgeChar[mid];
+                if (m < c) l = mid + 1;
+                else if (m > c) h = mid - 1;
+                else return edgeTarget[mid];
+            }
+            return -1;
+        }
+
+        /** 节点数量（包含根节点） */
+        int nodeCount() { return terminal.length; }
     }
 
     // ===================== 分词实现（同前） =====================
 
-    private static List<Token> tokenize(char[] buf, int len, TokenizerConfig cfg) {
-        List<Token> tokens = new ArrayList<>();
-        if (buf == null || len == 0) return tokens;
-        if (cfg == null) cfg = TokenizerConfig.defaults();
+    /**
+     * 对 src 的 [off, off + len) 区间分词，结果写入 out（会先清空 out）。
+     *
+     * <p>直接从 CharSequence 读取字符，不复制输入；词的区间为 src 中的绝对位置。
+     *
+     * @param src 输入字符序列
+     * @param off 起始位置
+     * @param len 长度
+     * @param cfg 分词器配置，为 null 时使用默认配置
+     * @param out 接收结果的缓冲区
+     * @return 词的数量
+     */
+    public static int tokenize(CharSequence src, int off, int len, TokenizerConfig cfg, TokenBuffer out) {
+        out.clear();
+        if (src == null || len <= 0) return 0;
+        if (cfg == null) cfg = TokenizerConfig.DEFAULTS;
+
+        final int end = off + len;
+        final DelimiterTrie trie = cfg.trie;
+        final boolean splitNumber = cfg.splitNumber;
+        final boolean splitCase = cfg.splitCase;
+        final boolean splitSymbol = cfg.splitSymbol;
 
         int curStart = -1;
+        int prevCls = 0; // 上一个字符的类别，仅在 curStart >= 0 时有效（此时上一个字符必然属于当前词）
+        int prevExt = 0; // 上一个字符的扩展类别，仅在启用 SYMBOL 时使用
         boolean curProtectCase = false;
         boolean curProtectNum = false;
+        boolean curProtectSymbol = false;
         boolean nextProtectCase = false;
         boolean nextProtectNum = false;
+        boolean nextProtectSymbol = false;
 
-        int i = 0;
-        while (i < len) {
-            String matched = null;
-            if (cfg.trie != null) matched = cfg.trie.longestMatch(buf, i, len);
+        int i = off;
+        while (i < end) {
+            int matched = trie == null ? 0 : trie.longestMatch(src, i, end);
 
-            if (matched != null) {
+            if (matched > 0) {
                 if (curStart >= 0) {
-                    tokens.add(new Token(curStart, i));
+                    out.add(curStart, i);
                     curStart = -1;
                     curProtectCase = false;
                     curProtectNum = false;
+                    curProtectSymbol = false;
                 }
-                nextProtectCase = cfg.protectedRules.has(SplitRule.CASE);
-                nextProtectNum  = cfg.protectedRules.has(SplitRule.NUMBER);
-                i += matched.length();
+                nextProtectCase = cfg.protectCase;
+                nextProtectNum  = cfg.protectNumber;
+                nextProtectSymbol = cfg.protectSymbol;
+                i += matched;
                 continue;
             }
 
-            char ch = buf[i];
-            boolean isAlnum = Character.isLetterOrDigit(ch);
+            char ch = src.charAt(i);
+            int cls, ext;
+            int width = 1;
+            if (!splitSymbol) {
+                cls = charClass(ch);
+                ext = 0;
+            } else if (ch < 128) {
+                cls = ASCII_FULL_CLASS[ch];
+                ext = cls & EXT_MASK;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < end && Character.isLowSurrogate(src.charAt(i + 1))) {
+                // 增补平面字符（如 emoji、扩展 B 汉字）按完整码点分类，并作为一个整体处理
+                int cp = Character.toCodePoint(ch, src.charAt(i + 1));
+                cls = classify(cp);
+                ext = symbolClass(cp, cls);
+                width = 2;
+            } else {
+                cls = UnicodeTable.get(ch);
+                ext = cls & EXT_MASK;
+            }
 
-            if (!isAlnum) {
+            // 启用 SYMBOL 时符号也属于词的一部分，其余非字母数字字符均视为分隔符
+            if ((cls & ALNUM) == 0 && (ext & SYMBOL) == 0) {
                 if (curStart >= 0) {
-                    tokens.add(new Token(curStart, i));
+                    out.add(curStart, i);
                     curStart = -1;
                     curProtectCase = false;
                     curProtectNum = false;
+                    curProtectSymbol = false;
                 }
                 nextProtectCase = false;
                 nextProtectNum = false;
-                i++;
+                nextProtectSymbol = false;
+                i += width;
                 continue;
             }
 
@@ -356,94 +728,134 @@ public final class Case {
                 curStart = i;
                 curProtectCase = nextProtectCase;
                 curProtectNum = nextProtectNum;
+                curProtectSymbol = nextProtectSymbol;
                 nextProtectCase = false;
                 nextProtectNum = false;
-                i++;
+                nextProtectSymbol = false;
+                prevCls = cls;
+                prevExt = ext;
+                i += width;
                 continue;
             }
 
-            char prev = buf[i - 1];
             boolean boundary = false;
 
-            if (cfg.rules.has(SplitRule.NUMBER) && !curProtectNum) {
-                if (Character.isDigit(ch) && !Character.isDigit(prev)) boundary = true;
-                else if (!Character.isDigit(ch) && Character.isDigit(prev)) boundary = true;
+            if (splitNumber && !curProtectNum) {
+                // 数字与非数字相邻
+                if (((cls ^ prevCls) & DIGIT) != 0) boundary = true;
             }
 
-            if (!boundary && cfg.rules.has(SplitRule.CASE) && !curProtectCase) {
-                if (Character.isUpperCase(ch)) {
-                    if (Character.isLowerCase(prev)) boundary = true;
-                    else if (Character.isUpperCase(prev) && cfg.splitUpperContinuous) {
-                        if (i + 1 < len && Character.isLowerCase(buf[i + 1])) boundary = true;
+            if (!boundary && splitCase && !curProtectCase) {
+                if ((cls & UPPER) != 0) {
+                    if ((prevCls & LOWER) != 0) boundary = true;
+                    else if ((prevCls & UPPER) != 0 && cfg.splitUpperContinuous) {
+                        if (i + 1 < end && (charClass(src.charAt(i + 1)) & LOWER) != 0) boundary = true;
                     }
                 }
             }
 
+            if (!boundary && splitSymbol && !curProtectSymbol) {
+                int diff = ext ^ prevExt;
+                // 符号与非符号相邻，或两个字母属于不同文字
+                if ((diff & SYMBOL) != 0) boundary = true;
+                else if ((diff & SCRIPT_MASK) != 0 && (ext & SCRIPT_MASK) != 0 && (prevExt & SCRIPT_MASK) != 0) boundary = true;
+            }
+
             if (boundary) {
-                tokens.add(new Token(curStart, i));
+                out.add(curStart, i);
                 curStart = i;
                 curProtectCase = false;
                 curProtectNum = false;
+                curProtectSymbol = false;
             }
-            i++;
+            prevCls = cls;
+            prevExt = ext;
+            i += width;
         }
 
-        if (curStart >= 0) tokens.add(new Token(curStart, len));
-        return tokens;
+        if (curStart >= 0) out.add(curStart, end);
+        return out.size();
     }
 
     // ===================== 拼接 / 转换（同前） =====================
 
-    private static String joinFromTokens(char[] buf, List<Token> tokens, String sep, CaseMode mode) {
-        if (tokens == null || tokens.isEmpty()) return new String(buf);
-        int est = Math.max(16, tokens.size() * 4 + (tokens.size() - 1) * (sep == null ? 0 : sep.length()));
-        StringBuilder sb = new StringBuilder(est);
-        boolean first = true;
-        for (Token t : tokens) {
-            if (!first && sep != null) sb.append(sep);
-            first = false;
+    private static void joinFromTokens(CharSequence src, TokenBuffer tokens, String sep, CaseMode mode, StringBuilder sb) {
+        for (int idx = 0, n = tokens.size(); idx < n; idx++) {
+            if (idx > 0 && sep != null) sb.append(sep);
+            int s = tokens.start(idx), e = tokens.end(idx);
             if (mode == CaseMode.ORIGINAL) {
-                sb.append(buf, t.start, t.len());
+                sb.append(src, s, e);
             } else if (mode == CaseMode.LOWER) {
-                for (int i = t.start; i < t.end; i++) sb.append(Character.toLowerCase(buf[i]));
+                CaseMapper.toLower(src, s, e, sb);
             } else {
-                for (int i = t.start; i < t.end; i++) sb.append(Character.toUpperCase(buf[i]));
+                CaseMapper.toUpper(src, s, e, sb);
             }
         }
-        return sb.toString();
     }
 
-    private static String camelFromTokens(char[] buf, List<Token> tokens, boolean camelUpperFirst, boolean preserveAcronyms) {
-        if (tokens == null || tokens.isEmpty()) return new String(buf);
-        int est = 0;
-        for (Token t : tokens) est += t.len();
-        StringBuilder sb = new StringBuilder(Math.max(16, est));
-        for (int idx = 0; idx < tokens.size(); idx++) {
-            Token t = tokens.get(idx);
-            int s = t.start, e = t.end;
+    private static void camelFromTokens(CharSequence src, TokenBuffer tokens, boolean camelUpperFirst, boolean preserveAcronyms, StringBuilder sb) {
+        for (int idx = 0, n = tokens.size(); idx < n; idx++) {
+            int s = tokens.start(idx), e = tokens.end(idx);
             if (s >= e) continue;
             boolean allUpper = true;
             for (int i = s; i < e; i++) {
-                char c = buf[i];
-                if (Character.isLetter(c) && !Character.isUpperCase(c)) { allUpper = false; break; }
+                int cls = charClass(src.charAt(i));
+                if ((cls & LETTER) != 0 && (cls & UPPER) == 0) { allUpper = false; break; }
             }
             if (idx == 0 && !camelUpperFirst) {
-                if (preserveAcronyms && allUpper) {
-                    for (int i = s; i < e; i++) sb.append(Character.toLowerCase(buf[i]));
-                } else {
-                    sb.append(Character.toLowerCase(buf[s]));
-                    for (int i = s + 1; i < e; i++) sb.append(Character.toLowerCase(buf[i]));
-                }
+                CaseMapper.toLower(src, s, e, sb);
             } else {
                 if (allUpper && preserveAcronyms) {
-                    for (int i = s; i < e; i++) sb.append(buf[i]);
+                    sb.append(src, s, e);
                 } else {
-                    sb.append(Character.toUpperCase(buf[s]));
-                    for (int i = s + 1; i < e; i++) sb.append(Character.toLowerCase(buf[i]));
+                    // 首字符按完整码点转换，避免拆开代理对
+                    int first = Math.min(e, s + Character.charCount(Character.codePointAt(src, s)));
+                    CaseMapper.toUpper(src, s, first, sb);
+                    CaseMapper.toLower(src, first, e, sb);
                 }
             }
         }
-        return sb.toString();
+    }
+
+    /**
+     * 按风格把 src 的 [off, off + len) 区间追加到 sb，tokens 为调用方提供的临时缓冲区。
+     */
+    static void appendStyle(CharSequence src, int off, int len, Style style, TokenizerConfig cfg, TokenBuffer tokens, StringBuilder sb) {
+        if (isInStyle(src, off, len, style, cfg)) {
+            sb.append(src, off, off + len);
+            return;
+        }
+        appendConverted(src, off, len, style, cfg, tokens, sb);
+    }
+
+    /**
+     * 分词后按风格追加，不检查是否已经是目标风格，供已经检查过的调用方使用，避免重复扫描。
+     */
+    private static void appendConverted(CharSequence src, int off, int len, Style style, TokenizerConfig cfg, TokenBuffer tokens, StringBuilder sb) {
+        tokenize(src, off, len, cfg, tokens);
+        appendTokens(src, off, len, style, tokens, sb);
+    }
+
+    /**
+     * 按风格拼接已经分好的词，tokens 必须是对 src 的 [off, off + len) 区间的分词结果。
+     */
+    private static void appendTokens(CharSequence src, int off, int len, Style style, TokenBuffer tokens, StringBuilder sb) {
+        if (tokens.size() == 0) {
+            // 没有任何字母或数字，与各 toXxxCase 方法的回退行为保持一致
+            int end = off + len;
+            switch (style) {
+                case CAMEL, PASCAL -> sb.append(src, off, end);
+                case CONSTANT -> CaseMapper.toUpper(src, off, end, sb);
+                default -> CaseMapper.toLower(src, off, end, sb);
+            }
+            return;
+        }
+        switch (style) {
+            case CAMEL -> camelFromTokens(src, tokens, false, true, sb);
+            case PASCAL -> camelFromTokens(src, tokens, true, true, sb);
+            case CONSTANT -> joinFromTokens(src, tokens, style.separator, CaseMode.UPPER, sb);
+            default -> joinFromTokens(src, tokens, style.separator, CaseMode.LOWER, sb);
+        }
     }
 
     // ===================== 公开 API（向后兼容） =====================
@@ -463,10 +875,11 @@ public final class Case {
      */
     public static String defaultCase(String separator, String src, TokenizerConfig cfg) {
         if (src == null) return null;
-        char[] buf = src.toCharArray();
-        List<Token> tokens = tokenize(buf, buf.length, cfg);
-        if (tokens.isEmpty()) return src.toLowerCase();
-        return joinFromTokens(buf, tokens, separator, CaseMode.LOWER);
+        Scratch scratch = SCRATCH.get();
+        if (tokenize(src, 0, src.length(), cfg, scratch.tokens) == 0) return CaseMapper.toLower(src);
+        StringBuilder sb = scratch.builder();
+        joinFromTokens(src, scratch.tokens, separator, CaseMode.LOWER, sb);
+        return sb.toString();
     }
 
     /**
@@ -479,10 +892,11 @@ public final class Case {
      */
     public static String toOriginalTokens(String src, TokenizerConfig cfg, String sep) {
         if (src == null) return null;
-        char[] buf = src.toCharArray();
-        List<Token> tokens = tokenize(buf, buf.length, cfg);
-        if (tokens.isEmpty()) return src;
-        return joinFromTokens(buf, tokens, sep, CaseMode.ORIGINAL);
+        Scratch scratch = SCRATCH.get();
+        if (tokenize(src, 0, src.length(), cfg, scratch.tokens) == 0) return src;
+        StringBuilder sb = scratch.builder();
+        joinFromTokens(src, scratch.tokens, sep, CaseMode.ORIGINAL, sb);
+        return sb.toString();
     }
 
     /**
@@ -504,10 +918,11 @@ public final class Case {
      */
     public static String toSnakeCase(String src, TokenizerConfig cfg, boolean upper) {
         if (src == null) return null;
-        char[] buf = src.toCharArray();
-        List<Token> tokens = tokenize(buf, buf.length, cfg);
-        if (tokens.isEmpty()) return upper ? src.toUpperCase() : src.toLowerCase();
-        return joinFromTokens(buf, tokens, "_", upper ? CaseMode.UPPER : CaseMode.LOWER);
+        Scratch scratch = SCRATCH.get();
+        if (tokenize(src, 0, src.length(), cfg, scratch.tokens) == 0) return upper ? CaseMapper.toUpper(src) : CaseMapper.toLower(src);
+        StringBuilder sb = scratch.builder();
+        joinFromTokens(src, scratch.tokens, "_", upper ? CaseMode.UPPER : CaseMode.LOWER, sb);
+        return sb.toString();
     }
 
     /**
@@ -521,10 +936,352 @@ public final class Case {
      */
     public static String toCamelCase(String src, TokenizerConfig cfg, boolean camelUpperFirst, boolean preserveAcronyms) {
         if (src == null) return null;
-        char[] buf = src.toCharArray();
-        List<Token> tokens = tokenize(buf, buf.length, cfg);
-        if (tokens.isEmpty()) return src;
-        return camelFromTokens(buf, tokens, camelUpperFirst, preserveAcronyms);
+        Scratch scratch = SCRATCH.get();
+        if (tokenize(src, 0, src.length(), cfg, scratch.tokens) == 0) return src;
+        StringBuilder sb = scratch.builder();
+        camelFromTokens(src, scratch.tokens, camelUpperFirst, preserveAcronyms, sb);
+        return sb.toString();
+    }
+
+    // ===================== 追加到调用方缓冲区 =====================
+    //
+    // 以下重载接受 CharSequence 的 [off, off + len) 区间，把结果直接追加到调用方提供的 StringBuilder / Appendable，
+    // 适合把大量转换结果连续写入同一个缓冲区。src 为 null 时不追加任何内容；
+    // 没有任何字母或数字时按字符转换大小写，与 convert 的行为一致。
+    // Appendable 不是 StringBuilder 时先写入线程内复用的缓冲区，再一次性追加。
+
+    /**
+     * {@link #defaultCase(String, String, TokenizerConfig)} 的追加版本。
+     *
+     * @return out
+     */
+    public static StringBuilder defaultCase(String separator, CharSequence src, int off, int len, TokenizerConfig cfg, StringBuilder out) {
+        TokenBuffer tokens = SCRATCH.get().tokens;
+        if (tokenize(src, off, len, cfg, tokens) == 0) {
+            if (src != null) CaseMapper.toLower(src, off, off + len, out);
+        } else {
+            joinFromTokens(src, tokens, separator, CaseMode.LOWER, out);
+        }
+        return out;
+    }
+
+    public static void defaultCase(String separator, CharSequence src, int off, int len, TokenizerConfig cfg, Appendable out) throws IOException {
+        if (out instanceof StringBuilder sb) defaultCase(separator, src, off, len, cfg, sb);
+        else out.append(defaultCase(separator, src, off, len, cfg, SCRATCH.get().builder()));
+    }
+
+    /**
+     * {@link #toOriginalTokens(String, TokenizerConfig, String)} 的追加版本。
+     *
+     * @return out
+     */
+    public static StringBuilder toOriginalTokens(CharSequence src, int off, int len, TokenizerConfig cfg, String sep, StringBuilder out) {
+        TokenBuffer tokens = SCRATCH.get().tokens;
+        if (tokenize(src, off, len, cfg, tokens) == 0) {
+            if (src != null) out.append(src, off, off + len);
+        } else {
+            joinFromTokens(src, tokens, sep, CaseMode.ORIGINAL, out);
+        }
+        return out;
+    }
+
+    public static void toOriginalTokens(CharSequence src, int off, int len, TokenizerConfig cfg, String sep, Appendable out) throws IOException {
+        if (out instanceof StringBuilder sb) toOriginalTokens(src, off, len, cfg, sep, sb);
+        else out.append(toOriginalTokens(src, off, len, cfg, sep, SCRATCH.get().builder()));
+    }
+
+    /**
+     * {@link #toSnakeCase(String, TokenizerConfig, boolean)} 的追加版本。
+     *
+     * @return out
+     */
+    public static StringBuilder toSnakeCase(CharSequence src, int off, int len, TokenizerConfig cfg, boolean upper, StringBuilder out) {
+        return convert(src, off, len, upper ? Style.CONSTANT : Style.SNAKE, cfg, out);
+    }
+
+    public static void toSnakeCase(CharSequence src, int off, int len, TokenizerConfig cfg, boolean upper, Appendable out) throws IOException {
+        convert(src, off, len, upper ? Style.CONSTANT : Style.SNAKE, cfg, out);
+    }
+
+    /**
+     * {@link #toCamelCase(String, TokenizerConfig, boolean, boolean)} 的追加版本。
+     *
+     * @return out
+     */
+    public static StringBuilder toCamelCase(CharSequence src, int off, int len, TokenizerConfig cfg, boolean camelUpperFirst, boolean preserveAcronyms, StringBuilder out) {
+        TokenBuffer tokens = SCRATCH.get().tokens;
+        if (tokenize(src, off, len, cfg, tokens) == 0) {
+            if (src != null) out.append(src, off, off + len);
+        } else {
+            camelFromTokens(src, tokens, camelUpperFirst, preserveAcronyms, out);
+        }
+        return out;
+    }
+
+    public static void toCamelCase(CharSequence src, int off, int len, TokenizerConfig cfg, boolean camelUpperFirst, boolean preserveAcronyms, Appendable out) throws IOException {
+        if (out instanceof StringBuilder sb) toCamelCase(src, off, len, cfg, camelUpperFirst, preserveAcronyms, sb);
+        else out.append(toCamelCase(src, off, len, cfg, camelUpperFirst, preserveAcronyms, SCRATCH.get().builder()));
+    }
+
+    /**
+     * {@link #convert(CharSequence, Style, TokenizerConfig)} 的追加版本。
+     *
+     * <p>示例：
+     * <pre>{@code
+     * StringBuilder sb = new StringBuilder();
+     * for (String key : keys) {
+     *     Case.convert(key, 0, key.length(), Style.SNAKE, null, sb).append('\n');
+     * }
+     * }</pre>
+     *
+     * @return out
+     */
+    public static StringBuilder convert(CharSequence src, int off, int len, Style style, TokenizerConfig cfg, StringBuilder out) {
+        if (src != null) appendStyle(src, off, len, style, cfg, SCRATCH.get().tokens, out);
+        return out;
+    }
+
+    public static void convert(CharSequence src, int off, int len, Style style, TokenizerConfig cfg, Appendable out) throws IOException {
+        if (out instanceof StringBuilder sb) convert(src, off, len, style, cfg, sb);
+        else out.append(convert(src, off, len, style, cfg, SCRATCH.get().builder()));
+    }
+
+    // ===================== 风格检测 =====================
+
+    /**
+     * 线性扫描检测字符串的命名风格。
+     *
+     * <p>仅识别 ASCII 字符串：分隔符只能是 _ - . / 和空格中的一种，且不能出现在首尾或连续出现。
+     * 没有分隔符且全部为小写的单词同时符合多种风格，此时返回 {@link Style#SNAKE}。
+     *
+     * <p>示例：
+     * <pre>{@code
+     * Case.detectStyle("app_name");     // SNAKE
+     * Case.detectStyle("HTTPServer");   // PASCAL
+     * Case.detectStyle("app_Name-2");   // null
+     * }</pre>
+     *
+     * @param src 输入字符串
+     * @return 检测到的风格；为空、混合风格或含有非 ASCII 字符时返回 null
+     */
+    public static Style detectStyle(CharSequence src) {
+        if (src == null || src.length() == 0) return null;
+        final int len = src.length();
+        char sep = 0;
+        boolean upper = false, lower = false;
+        char prev = 0;
+        for (int i = 0; i < len; i++) {
+            char c = src.charAt(i);
+            if (c >= 128) return null;
+            int cls = ASCII_CLASS[c];
+            if ((cls & ALNUM) == 0) {
+                if (c != '_' && c != '-' && c != '.' && c != '/' && c != ' ') return null;
+                if (sep == 0) sep = c;
+                else if (sep != c) return null;
+                if (i == 0 || i == len - 1 || prev == c) return null;
+            } else if ((cls & UPPER) != 0) {
+                upper = true;
+            } else if ((cls & LOWER) != 0) {
+                lower = true;
+            }
+            prev = c;
+        }
+        switch (sep) {
+            case '_': return !upper ? Style.SNAKE : !lower ? Style.CONSTANT : null;
+            case '-': return upper ? null : Style.KEBAB;
+            case '.': return upper ? null : Style.CHAIN;
+            case '/': return upper ? null : Style.PATH;
+            case ' ': return upper ? null : Style.SPACE;
+            default:
+                if (!upper) return lower ? Style.SNAKE : null;
+                if (!lower) return Style.CONSTANT;
+                return (ASCII_CLASS[src.charAt(0)] & UPPER) != 0 ? Style.PASCAL : Style.CAMEL;
+        }
+    }
+
+    /**
+     * 判断按 style 转换 src 的 [off, off + len) 区间是否不会产生任何变化，用于跳过分词与拼接。
+     *
+     * <p>只在能够确定结果的情况下返回 true：配置中没有额外分隔符，输入仅含 ASCII 字符，
+     * 且按当前的拆分规则不会产生新的分词边界（如开启 NUMBER 时 "v2" 会被拆为 "v_2"）。
+     * 返回 false 并不代表转换结果一定不同。
+     */
+    static boolean isInStyle(CharSequence src, int off, int len, Style style, TokenizerConfig cfg) {
+        if (cfg == null) cfg = TokenizerConfig.DEFAULTS;
+        if (cfg.trie != null || len <= 0) return false;
+        return switch (style) {
+            case CAMEL -> isCamel(src, off, off + len, false, cfg);
+            case PASCAL -> isCamel(src, off, off + len, true, cfg);
+            case CONSTANT -> isSeparated(src, off, off + len, style.separator.charAt(0), true, cfg);
+            default -> isSeparated(src, off, off + len, style.separator.charAt(0), false, cfg);
+        };
+    }
+
+    private static boolean isSeparated(CharSequence src, int off, int end, char sep, boolean upper, TokenizerConfig cfg) {
+        final int wrongCase = upper ? LOWER : UPPER;
+        int prevCls = 0; // 0 表示位于开头或紧跟在分隔符之后
+        for (int i = off; i < end; i++) {
+            char c = src.charAt(i);
+            if (c >= 128) return false;
+            int cls = ASCII_CLASS[c];
+            if ((cls & ALNUM) == 0) {
+                if (c != sep || prevCls == 0) return false;
+                prevCls = 0;
+                continue;
+            }
+            if ((cls & wrongCase) != 0) return false;
+            if (cfg.splitNumber && prevCls != 0 && ((cls ^ prevCls) & DIGIT) != 0) return false;
+            prevCls = cls;
+        }
+        return prevCls != 0;
+    }
+
+    private static boolean isCamel(CharSequence src, int off, int end, boolean pascal, TokenizerConfig cfg) {
+        // 不按大小写拆分时整个字符串是一个词，首字母以外的大写都会被改变
+        if (!cfg.splitCase) return false;
+        char first = src.charAt(off);
+        if (first >= 128 || (ASCII_CLASS[first] & (pascal ? UPPER : LOWER)) == 0) return false;
+        int prevCls = ASCII_CLASS[first];
+        for (int i = off + 1; i < end; i++) {
+            char c = src.charAt(i);
+            if (c >= 128) return false;
+            int cls = ASCII_CLASS[c];
+            if ((cls & ALNUM) == 0) return false;
+            // 大写字母必须紧跟在小写字母之后，连续大写（缩写）交给完整的转换处理
+            if ((cls & UPPER) != 0 && (prevCls & LOWER) == 0) return false;
+            // 开启 NUMBER 时数字后面的小写字母会成为新词的首字母
+            if ((cls & LOWER) != 0 && cfg.splitNumber && (prevCls & DIGIT) != 0) return false;
+            prevCls = cls;
+        }
+        return true;
+    }
+
+    // ===================== 按风格转换 / 批量转换 =====================
+
+    /** 超过该条目数时 {@link #convertAll} 使用 ForkJoin 并行转换 */
+    static final int PARALLEL_THRESHOLD = 4096;
+    /** 并行转换时每个子任务的最小条目数 */
+    private static final int MIN_PARALLEL_GRAIN = 512;
+
+    /**
+     * 按风格转换单个字符串。
+     *
+     * @param src   输入字符串
+     * @param style 目标风格
+     * @param cfg   分词器配置，为 null 时使用默认配置
+     * @return 转换后的字符串，如果输入为 null 则返回 null
+     */
+    public static String convert(CharSequence src, Style style, TokenizerConfig cfg) {
+        if (src == null) return null;
+        // 已经是目标风格时直接返回原字符串
+        if (isInStyle(src, 0, src.length(), style, cfg)) return src.toString();
+        Scratch scratch = SCRATCH.get();
+        StringBuilder sb = scratch.builder();
+        appendConverted(src, 0, src.length(), style, cfg, scratch.tokens, sb);
+        return sb.toString();
+    }
+
+    /**
+     * 只分词一次，同时输出多种风格，适合一次展示所有候选风格的预览。
+     *
+     * <p>示例：
+     * <pre>{@code
+     * String[] all = Case.convertEach("myHTTPServer", null, Style.values());
+     * // 结果: ["my_http_server", "MY_HTTP_SERVER", "myHTTPServer", "MyHTTPServer", "my-http-server", ...]
+     * }</pre>
+     *
+     * @param src    输入字符串
+     * @param cfg    分词器配置，为 null 时使用默认配置
+     * @param styles 需要输出的风格
+     * @return 与 styles 一一对应的结果，如果输入为 null 则全部为 null
+     */
+    public static String[] convertEach(CharSequence src, TokenizerConfig cfg, Style... styles) {
+        String[] out = new String[styles.length];
+        if (src == null) return out;
+        Scratch scratch = SCRATCH.get();
+        int len = src.length();
+        tokenize(src, 0, len, cfg, scratch.tokens);
+        for (int i = 0; i < styles.length; i++) {
+            StringBuilder sb = scratch.builder();
+            appendTokens(src, 0, len, styles[i], scratch.tokens, sb);
+            out[i] = sb.toString();
+        }
+        return out;
+    }
+
+    /**
+     * 批量按风格转换，适合一次转换整个字符串表。
+     *
+     * <p>同一线程内的所有条目共用一个分词缓冲区与一个 StringBuilder；
+     * 条目数超过 {@value #PARALLEL_THRESHOLD} 时拆分到 {@link ForkJoinPool#commonPool()} 并行处理，
+     * 每个工作线程使用各自的缓冲区。结果顺序始终与输入一致，null 条目对应的结果为 null。
+     *
+     * <p>示例：
+     * <pre>{@code
+     * List<String> keys = Case.convertAll(Arrays.asList("appName", "okButton"), Style.SNAKE, TokenizerConfig.defaults());
+     * // 结果: ["app_name", "ok_button"]
+     * }</pre>
+     *
+     * @param src   输入列表
+     * @param style 目标风格
+     * @param cfg   分词器配置，为 null 时使用默认配置
+     * @return 与输入等长、顺序一致的结果列表
+     */
+    public static List<String> convertAll(List<? extends CharSequence> src, Style style, TokenizerConfig cfg) {
+        Objects.requireNonNull(style, "style");
+        CharSequence[] in = src.toArray(new CharSequence[0]);
+        String[] out = new String[in.length];
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        if (in.length <= PARALLEL_THRESHOLD || pool.getParallelism() <= 1) {
+            convertRange(in, out, 0, in.length, style, cfg);
+        } else {
+            int grain = Math.max(MIN_PARALLEL_GRAIN, in.length / (pool.getParallelism() * 4));
+            pool.invoke(new ConvertTask(in, out, 0, in.length, style, cfg, grain));
+        }
+        return Arrays.asList(out);
+    }
+
+    private static void convertRange(CharSequence[] in, String[] out, int from, int to, Style style, TokenizerConfig cfg) {
+        Scratch scratch = SCRATCH.get();
+        for (int i = from; i < to; i++) {
+            CharSequence s = in[i];
+            if (s == null) continue;
+            if (isInStyle(s, 0, s.length(), style, cfg)) {
+                out[i] = s.toString();
+                continue;
+            }
+            StringBuilder sb = scratch.builder();
+            appendConverted(s, 0, s.length(), style, cfg, scratch.tokens, sb);
+            out[i] = sb.toString();
+        }
+    }
+
+    /** 二分拆分的并行转换任务，每个子任务写入结果数组中各自的区间，因此无需同步且保持顺序 */
+    private static final class ConvertTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CharSequence[] in;
+        private final String[] out;
+        private final int from, to;
+        private final Style style;
+        private final TokenizerConfig cfg;
+        private final int grain;
+
+        ConvertTask(CharSequence[] in, String[] out, int from, int to, Style style, TokenizerConfig cfg, int grain) {
+            this.in = in; this.out = out; this.from = from; this.to = to;
+            this.style = style; this.cfg = cfg; this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                convertRange(in, out, from, to, style, cfg);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConvertTask(in, out, from, mid, style, cfg, grain),
+                      new ConvertTask(in, out, mid, to, style, cfg, grain));
+        }
     }
 
     // ===================== 快捷重载方法 =====================
@@ -0,0 +1,164 @@
+package guobao.plugin.converter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 命名风格转换结果的 LRU 缓存
+ *
+ * <p>字符串表与代码中同一个标识符（如 app_name、ok、cancel）会在不同模块、不同语言的文件里反复出现，
+ * 缓存以（输入, 风格, 分词配置）为键保存 {@link Case#convert(CharSequence, Case.Style, Case.TokenizerConfig)} 的结果，
+ * 重复出现的标识符不必再次分词。
+ *
+ * <p>设计要点：
+ * <ul>
+ *   <li>容量按字符数计算：每个条目计入输入与结果的长度以及固定的额外开销，超出上限时淘汰最久未使用的条目。</li>
+ *   <li>单个输入超过容量的 1/{@value #MAX_ENTRY_FRACTION} 时不缓存，避免一次转换就清空整个缓存。</li>
+ *   <li>线程安全：查表与更新在锁内完成，转换本身在锁外进行，多个线程可以同时转换。</li>
+ * </ul>
+ *
+ * <p>示例：
+ * <pre>{@code
+ * CaseCache cache = new CaseCache(CaseCache.DEFAULT_MAX_CHARS);
+ * cache.convert("appName", Case.Style.SNAKE, null); // "app_name"，未命中
+ * cache.convert("appName", Case.Style.SNAKE, null); // "app_name"，命中
+ * }</pre>
+ */
+public final class CaseCache {
+
+    /** 默认容量（字符数），约占用 512 KB */
+    public static final int DEFAULT_MAX_CHARS = 256 * 1024;
+
+    // 每个条目除字符内容外的额外开销（键对象、链表节点等），按字符数估算
+    private static final int ENTRY_OVERHEAD = 32;
+    private static final int MAX_ENTRY_FRACTION = 8;
+
+    private final int maxChars;
+    // accessOrder = true：按访问顺序排列，链表头部即最久未使用的条目
+    private final LinkedHashMap<Key, String> map = new LinkedHashMap<>(64, 0.75f, true);
+    private long chars;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param maxChars 最多缓存的字符数
+     */
+    public CaseCache(int maxChars) {
+        if (maxChars <= 0) throw new IllegalArgumentException("maxChars <= 0: " + maxChars);
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * 与 {@link Case#convert(CharSequence, Case.Style, Case.TokenizerConfig)} 相同，优先返回缓存的结果。
+     *
+     * @param src   输入字符串
+     * @param style 目标风格
+     * @param cfg   分词器配置，为 null 时使用默认配置
+     * @return 转换后的字符串，如果输入为 null 则返回 null
+     */
+    public String convert(CharSequence src, Case.Style style, Case.TokenizerConfig cfg) {
+        if (src == null) return null;
+        Objects.requireNonNull(style, "style");
+        String input = src.toString();
+        if (weight(input, input) > maxChars / MAX_ENTRY_FRACTION) {
+            synchronized (this) {
+                misses++;
+            }
+            return Case.convert(input, style, cfg);
+        }
+        Key key = new Key(input, style, cfg == null ? Case.TokenizerConfig.defaults() : cfg);
+        synchronized (this) {
+            String cached = map.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+        String result = Case.convert(input, style, cfg);
+        synchronized (this) {
+            // 其他线程可能已经放入了相同的结果，此时只需更新访问顺序
+            String prev = map.put(key, result);
+            if (prev == null) {
+                chars += weight(input, result);
+                trim();
+            }
+        }
+        return result;
+    }
+
+    /** 命中次数 */
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    /** 未命中次数（包括因输入过长而不缓存的转换） */
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    /** 当前缓存的条目数 */
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /** 当前缓存占用的字符数（含每个条目的估算开销） */
+    public synchronized long charCount() {
+        return chars;
+    }
+
+    /** 清空缓存，命中与未命中次数同时归零 */
+    public synchronized void clear() {
+        map.clear();
+        chars = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CaseCache{size=" + map.size() + ", chars=" + chars + "/" + maxChars
+                + ", hits=" + hits + ", misses=" + misses + "}";
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<Key, String>> it = map.entrySet().iterator();
+        while (chars > maxChars && it.hasNext()) {
+            Map.Entry<Key, String> e = it.next();
+            chars -= weight(e.getKey().src, e.getValue());
+            it.remove();
+        }
+    }
+
+    /** 结果与输入是同一个字符串（已经是目标风格）时只计算一次 */
+    private static int weight(String src, String result) {
+        return ENTRY_OVERHEAD + src.length() + (result == src ? 0 : result.length());
+    }
+
+    private static final class Key {
+        final String src;
+        final Case.Style style;
+        final Case.TokenizerConfig cfg;
+        final int hash;
+
+        Key(String src, Case.Style style, Case.TokenizerConfig cfg) {
+            this.src = src;
+            this.style = style;
+            this.cfg = cfg;
+            this.hash = (src.hashCode() * 31 + style.ordinal()) * 31 + cfg.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other)) return false;
+            return hash == other.hash && style == other.style && src.equals(other.src) && cfg.equals(other.cfg);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package guobao.plugin.converter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 大小写映射与反转的公共实现
+ *
+ * <p>设计要点：
+ * <ul>
+ *   <li>与设备语言无关：不使用默认 Locale，土耳其语等环境下 "i" 仍转换为 "I"。</li>
+ *   <li>ASCII 字符直接查表；其余字符按完整码点处理，增补平面字符（代理对）不会被拆开。</li>
+ *   <li>使用 Unicode 简单映射；没有对应单个大写字符的小写字母（如 ß、ﬁ）转大写时按完整映射展开为 "SS"、"FI"。</li>
+ *   <li>所有方法都读取 CharSequence 的 [start, end) 区间并追加到调用方提供的 StringBuilder，可反复复用同一个缓冲区。</li>
+ * </ul>
+ *
+ * <p>示例：
+ * <pre>{@code
+ * StringBuilder sb = new StringBuilder();
+ * CaseMapper.swapCase("Hello World", 0, 11, sb); // "hELLO wORLD"
+ * String title = CaseMapper.toTitle("hello wORLD"); // "Hello World"
+ * }</pre>
+ */
+public final class CaseMapper {
+
+    private CaseMapper() {}
+
+    private static final char[] ASCII_UPPER = new char[128];
+    private static final char[] ASCII_LOWER = new char[128];
+    private static final char[] ASCII_SWAP = new char[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            char upper = c >= 'a' && c <= 'z' ? (char) (c - 32) : c;
+            char lower = c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+            ASCII_UPPER[c] = upper;
+            ASCII_LOWER[c] = lower;
+            ASCII_SWAP[c] = upper != c ? upper : lower;
+        }
+    }
+
+    // 映射方式
+    private static final int UPPER = 0;
+    private static final int LOWER = 1;
+    private static final int SWAP = 2;
+
+    // ===================== 追加到缓冲区 =====================
+
+    /** 转换为大写并追加到 out */
+    public static StringBuilder toUpper(CharSequence src, int start, int end, StringBuilder out) {
+        return map(src, start, end, UPPER, out);
+    }
+
+    /** 转换为小写并追加到 out */
+    public static StringBuilder toLower(CharSequence src, int start, int end, StringBuilder out) {
+        return map(src, start, end, LOWER, out);
+    }
+
+    /** 大小写互换并追加到 out：大写与标题字母转为小写，小写字母转为大写 */
+    public static StringBuilder swapCase(CharSequence src, int start, int end, StringBuilder out) {
+        return map(src, start, end, SWAP, out);
+    }
+
+    /**
+     * 每个单词首字母转为标题大写，其余字母转为小写，并追加到 out。
+     *
+     * <p>字母与数字组成单词；单词内部的撇号（' 或 ’）不会开始新的单词，因此 "don't" 转换为 "Don't"。
+     */
+    public static StringBuilder toTitle(CharSequence src, int start, int end, StringBuilder out) {
+        boolean inWord = false;
+        int i = start;
+        while (i < end) {
+            char c = src.charAt(i);
+            if (c < 128) {
+                int cls = Case.charClass(c);
+                if ((cls & Case.ALNUM) != 0) {
+                    out.append(inWord ? ASCII_LOWER[c] : ASCII_UPPER[c]);
+                    inWord = true;
+                } else {
+                    out.append(c);
+                    inWord = inWord && c == '\'';
+                }
+                i++;
+                continue;
+            }
+            int cp = codePointAt(src, i, end);
+            if (Character.isLetterOrDigit(cp)) {
+                out.appendCodePoint(inWord ? Character.toLowerCase(cp) : Character.toTitleCase(cp));
+                inWord = true;
+            } else {
+                out.appendCodePoint(cp);
+                inWord = inWord && cp == '’';
+            }
+            i += Character.charCount(cp);
+        }
+        return out;
+    }
+
+    /** 按码点反转并追加到 out，代理对保持原有顺序 */
+    public static StringBuilder reverse(CharSequence src, int start, int end, StringBuilder out) {
+        int i = end;
+        while (i > start) {
+            char c = src.charAt(--i);
+            if (Character.isLowSurrogate(c) && i > start && Character.isHighSurrogate(src.charAt(i - 1))) {
+                out.append(src.charAt(i - 1)).append(c);
+                i--;
+            } else {
+                out.append(c);
+            }
+        }
+        return out;
+    }
+
+    // ===================== 返回字符串 =====================
+
+    /** 转换为大写；内容没有变化时返回原字符串 */
+    public static String toUpper(String src) {
+        return mapString(src, UPPER);
+    }
+
+    /** 转换为小写；内容没有变化时返回原字符串 */
+    public static String toLower(String src) {
+        return mapString(src, LOWER);
+    }
+
+    /** 大小写互换 */
+    public static String swapCase(String src) {
+        if (src == null) return null;
+        return swapCase(src, 0, src.length(), new StringBuilder(src.length())).toString();
+    }
+
+    /** 每个单词首字母大写 */
+    public static String toTitle(String src) {
+        if (src == null) return null;
+        return toTitle(src, 0, src.length(), new StringBuilder(src.length())).toString();
+    }
+
+    /** 按码点反转 */
+    public static String reverse(String src) {
+        if (src == null) return null;
+        return reverse(src, 0, src.length(), new StringBuilder(src.length())).toString();
+    }
+
+    // ===================== 实现 =====================
+
+    private static String mapString(String src, int mode) {
+        if (src == null) return null;
+        final int len = src.length();
+        // 先找到第一个会改变的字符，全部不变时不分配任何对象
+        int i = 0;
+        while (i < len) {
+            char c = src.charAt(i);
+            if (c < 128) {
+                if ((mode == UPPER ? ASCII_UPPER[c] : ASCII_LOWER[c]) != c) break;
+                i++;
+            } else {
+                int cp = src.codePointAt(i);
+                if ((mode == UPPER ? Character.toUpperCase(cp) : Character.toLowerCase(cp)) != cp) break;
+                if (mode == UPPER && Character.isLowerCase(cp) && FullUpper.get(cp) != null) break;
+                i += Character.charCount(cp);
+            }
+        }
+        if (i == len) return src;
+        StringBuilder sb = new StringBuilder(len);
+        sb.append(src, 0, i);
+        return map(src, i, len, mode, sb).toString();
+    }
+
+    private static StringBuilder map(CharSequence src, int start, int end, int mode, StringBuilder out) {
+        final char[] table = mode == UPPER ? ASCII_UPPER : mode == LOWER ? ASCII_LOWER : ASCII_SWAP;
+        int i = start;
+        while (i < end) {
+            char c = src.charAt(i);
+            if (c < 128) {
+                out.append(table[c]);
+                i++;
+                continue;
+            }
+            int cp = codePointAt(src, i, end);
+            int mapped;
+            if (mode == UPPER) {
+                mapped = Character.toUpperCase(cp);
+            } else if (mode == LOWER) {
+                mapped = Character.toLowerCase(cp);
+            } else if (Character.isUpperCase(cp) || Character.isTitleCase(cp)) {
+                mapped = Character.toLowerCase(cp);
+            } else {
+                mapped = Character.toUpperCase(cp);
+            }
+            String full;
+            if (mapped == cp && mode != LOWER && Character.isLowerCase(cp) && (full = FullUpper.get(cp)) != null) {
+                // 没有单个大写字符对应的小写字母，按完整映射展开
+                out.append(full);
+            } else {
+                out.appendCodePoint(mapped);
+            }
+            i += Character.charCount(cp);
+        }
+        return out;
+    }
+
+    /**
+     * 转大写时需要展开为多个字符的小写字母（如 ß -> SS、ﬁ -> FI），首次遇到此类字符时才构建。
+     * 这些字符都在 BMP 内，且数量很少，按码点有序存放并二分查找。
+     */
+    private static final class FullUpper {
+        static final char[] KEYS;
+        static final String[] VALUES;
+
+        static {
+            StringBuilder keys = new StringBuilder();
+            ArrayList<String> values = new ArrayList<>();
+            for (char c = 128; c < 0xFFFF; c++) {
+                if (!Character.isLowerCase(c) || Character.toUpperCase(c) != c) continue;
+                String s = String.valueOf(c);
+                String upper = s.toUpperCase(Locale.ROOT);
+                if (!upper.equals(s)) {
+                    keys.append(c);
+                    values.add(upper);
+                }
+            }
+            KEYS = keys.toString().toCharArray();
+            VALUES = values.toArray(new String[0]);
+        }
+
+        static String get(int cp) {
+            if (cp >= 0x10000) return null;
+            int idx = Arrays.binarySearch(KEYS, (char) cp);
+            return idx >= 0 ? VALUES[idx] : null;
+        }
+    }
+
+    /** 读取 i 处的码点，不会越过 end 组合代理对 */
+    private static int codePointAt(CharSequence src, int i, int end) {
+        char c = src.charAt(i);
+        if (Character.isHighSurrogate(c) && i + 1 < end) {
+            char d = src.charAt(i + 1);
+            if (Character.isLowSurrogate(d)) return Character.toCodePoint(c, d);
+        }
+        return c;
+    }
+}
@@ -0,0 +1,197 @@
+package guobao.plugin.converter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 一次翻译过程内的转换结果缓存
+ *
+ * <p>MT 把整个资源文件交给翻译引擎时，同一段原文会在不同模块、不同语言的文件里出现很多次。
+ * 缓存以（工具, 目标, 原文）为键保存转换结果，每段不同的原文只转换一次；
+ * 对每次都要重新解析语法树的 Markdown → UBB 等转换收益最大。
+ *
+ * <p>设计要点：
+ * <ul>
+ *   <li>属于某个 {@link Converter}，从第一次翻译开始到 onFinish 结束，不会跨翻译过程保留结果。</li>
+ *   <li>与 {@link CaseCache} 相同，容量按字符数计算并按 LRU 淘汰，单个过长的原文不缓存。</li>
+ *   <li>只缓存结果仅由原文与设置决定的工具（见 {@link guobao.plugin.converter.tool.ConversionTool#cacheable}）。</li>
+ *   <li>查找与保存都带上转换开始时的设置版本：出现更新的版本时丢弃全部旧结果，
+ *       转换期间设置发生变化的结果不保存，检查与保存在同一把锁内完成。</li>
+ * </ul>
+ *
+ * <p>示例：
+ * <pre>{@code
+ * ConversionCache cache = new ConversionCache(ConversionCache.DEFAULT_MAX_CHARS);
+ * int version = settingsVersion; // 转换前读取
+ * String result = cache.get(version, "md_ubb", "ubb", text); // 未命中时为 null
+ * if (result == null) cache.put(version, "md_ubb", "ubb", text, result = tool.convert(text, "ubb"));
+ * }</pre>
+ */
+public final class ConversionCache {
+
+    /** 默认容量（字符数），约占用 2 MB */
+    public static final int DEFAULT_MAX_CHARS = 1024 * 1024;
+
+    // 每个条目除字符内容外的额外开销（键对象、链表节点等），按字符数估算
+    private static final int ENTRY_OVERHEAD = 32;
+    private static final int MAX_ENTRY_FRACTION = 8;
+
+    private final int maxChars;
+    // accessOrder = true：按访问顺序排列，链表头部即最久未使用的条目
+    private final LinkedHashMap<Key, String> map = new LinkedHashMap<>(64, 0.75f, true);
+    private long chars;
+    private long hits;
+    private long misses;
+    // 缓存中的结果对应的设置版本
+    private int version;
+
+    /**
+     * @param maxChars 最多缓存的字符数
+     */
+    public ConversionCache(int maxChars) {
+        if (maxChars <= 0) throw new IllegalArgumentException("maxChars <= 0: " + maxChars);
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * 查找缓存的结果，同时计入命中或未命中次数。
+     *
+     * @return 缓存的结果，没有时返回 null
+     */
+    public synchronized String get(String tool, String target, String text) {
+        String cached = map.get(new Key(tool, target, text));
+        if (cached != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return cached;
+    }
+
+    /**
+     * 保存转换结果，原文与结果过长时不保存。
+     */
+    public synchronized void put(String tool, String target, String text, String result) {
+        int weight = weight(text, result);
+        if (weight > maxChars / MAX_ENTRY_FRACTION) return;
+        String prev = map.put(new Key(tool, target, text), result);
+        chars += weight;
+        if (prev != null) chars -= weight(text, prev);
+        trim();
+    }
+
+    /**
+     * 按设置版本查找缓存的结果：version 比缓存中结果的版本新时先丢弃全部旧结果，比它旧时视为未命中。
+     *
+     * @param version 转换开始前读取的设置版本
+     * @return 缓存的结果，没有时返回 null
+     */
+    public synchronized String get(int version, String tool, String target, String text) {
+        if (version != this.version) {
+            if (version - this.version < 0) {
+                misses++;
+                return null;
+            }
+            invalidate();
+            this.version = version;
+        }
+        return get(tool, target, text);
+    }
+
+    /**
+     * 保存在设置版本 version 下得到的转换结果。
+     * 转换期间缓存已切换到其他版本时不保存，旧设置下的结果不会留在新版本的缓存中。
+     *
+     * @param version 转换开始前读取的设置版本，与传给 {@link #get(int, String, String, String)} 的相同
+     */
+    public synchronized void put(int version, String tool, String target, String text, String result) {
+        if (version == this.version) put(tool, target, text, result);
+    }
+
+    /** 命中次数 */
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    /** 未命中次数 */
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    /** 命中率，没有查找过时为 0 */
+    public synchronized double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /** 当前缓存的条目数 */
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /** 当前缓存占用的字符数（含每个条目的估算开销） */
+    public synchronized long charCount() {
+        return chars;
+    }
+
+    /** 丢弃缓存的结果，保留命中与未命中次数，设置变化时使用 */
+    public synchronized void invalidate() {
+        map.clear();
+        chars = 0;
+    }
+
+    /** 清空缓存，命中与未命中次数同时归零 */
+    public synchronized void clear() {
+        map.clear();
+        chars = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(Locale.ROOT, "ConversionCache{size=%d, chars=%d/%d, hits=%d, misses=%d, hitRatio=%.1f%%}",
+                map.size(), chars, maxChars, hits, misses, hitRatio() * 100);
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<Key, String>> it = map.entrySet().iterator();
+        while (chars > maxChars && it.hasNext()) {
+            Map.Entry<Key, String> e = it.next();
+            chars -= weight(e.getKey().text, e.getValue());
+            it.remove();
+        }
+    }
+
+    /** 结果与原文是同一个字符串（无需转换）时只计算一次 */
+    private static int weight(String text, String result) {
+        return ENTRY_OVERHEAD + text.length() + (result == text ? 0 : result.length());
+    }
+
+    private static final class Key {
+        final String tool;
+        final String target;
+        final String text;
+        final int hash;
+
+        Key(String tool, String target, String text) {
+            this.tool = tool;
+            this.target = target;
+            this.text = text;
+            this.hash = (text.hashCode() * 31 + tool.hashCode()) * 31 + target.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other)) return false;
+            return hash == other.hash && text.equals(other.text) && tool.equals(other.tool) && target.equals(other.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package guobao.plugin.converter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 各转换工具的调用统计：调用次数、输入输出字符数与耗时
+ *
+ * <p>设计要点：
+ * <ul>
+ *   <li>按（工具, 目标）分别统计，工具第一次创建的耗时记在目标 {@value #INIT} 下，例如 Markdown 解析器的构建；
+ *       命名法设置快照的重建记在 case 的 {@value #CONFIG} 下。</li>
+ *   <li>计时采样进行：每个条目每 {@value #SAMPLE_INTERVAL} 次调用测量一次 System.nanoTime，
+ *       总耗时按采样调用的平均值估算；调用次数与字符数每次都计入。</li>
+ *   <li>批量转换时先在局部变量中累加，整批结束后调用一次 {@link Entry#add}，不会为每个词条加锁。</li>
+ *   <li>可编码为文本保存在设置中，多次翻译的统计用 {@link #merge} 累加。</li>
+ * </ul>
+ *
+ * <p>示例：
+ * <pre>{@code
+ * ConversionStats.Entry e = stats.entry("case", "snake");
+ * boolean timed = e.sample();
+ * long t0 = timed ? System.nanoTime() : 0;
+ * String out = convert(in);
+ * e.add(1, in.length(), out.length(), timed ? 1 : 0, timed ? System.nanoTime() - t0 : 0);
+ * }</pre>
+ */
+public final class ConversionStats {
+
+    /** 保存累计统计的设置项 */
+    public static final String KEY_STATS = "conversion_stats";
+    /** 工具创建的统计条目使用的目标名 */
+    public static final String INIT = "(init)";
+    /** 命名法设置快照重建的统计条目使用的目标名 */
+    public static final String CONFIG = "(config)";
+    /** 计时采样间隔，必须为 2 的幂 */
+    public static final int SAMPLE_INTERVAL = 16;
+
+    /** 一个（工具, 目标）的统计 */
+    public static final class Entry {
+        public final String tool;
+        public final String target;
+        private long calls;
+        private long inChars;
+        private long outChars;
+        private long sampledCalls;
+        private long sampledNanos;
+        // 只用于决定是否采样，多线程下偶尔多测或少测一次不影响估算，不加锁
+        private int ticks;
+
+        Entry(String tool, String target) {
+            this.tool = tool;
+            this.target = target;
+        }
+
+        /** 本次调用是否需要计时，第一次调用总是计时 */
+        public boolean sample() {
+            return (ticks++ & (SAMPLE_INTERVAL - 1)) == 0;
+        }
+
+        /**
+         * 累加统计。
+         *
+         * @param calls        调用次数
+         * @param inChars      输入字符数
+         * @param outChars     输出字符数
+         * @param sampledCalls 其中计时的调用次数
+         * @param sampledNanos 计时调用的总耗时
+         */
+        public synchronized void add(long calls, long inChars, long outChars, long sampledCalls, long sampledNanos) {
+            this.calls += calls;
+            this.inChars += inChars;
+            this.outChars += outChars;
+            this.sampledCalls += sampledCalls;
+            this.sampledNanos += sampledNanos;
+        }
+
+        public synchronized long calls() {
+            return calls;
+        }
+
+        public synchronized long inChars() {
+            return inChars;
+        }
+
+        public synchronized long outChars() {
+            return outChars;
+        }
+
+        /** 按采样估算的总耗时（纳秒） */
+        public synchronized long estimatedNanos() {
+            if (sampledCalls == 0) return 0;
+            // 先除后乘，避免大数相乘溢出
+            return (long) ((double) sampledNanos / sampledCalls * calls);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format(Locale.ROOT, "%s:%s calls=%d in=%d out=%d time≈%s",
+                    tool, target, calls, inChars, outChars, formatNanos(estimatedNanos()));
+        }
+    }
+
+    // 工具 → 目标 → 条目，按第一次使用的顺序排列
+    private final Map<String, Map<String, Entry>> entries = new LinkedHashMap<>();
+
+    /** 获取统计条目，不存在时创建 */
+    public synchronized Entry entry(String tool, String target) {
+        Map<String, Entry> targets = entries.get(tool);
+        if (targets == null) {
+            targets = new LinkedHashMap<>();
+            entries.put(tool, targets);
+        }
+        Entry e = targets.get(target);
+        if (e == null) {
+            e = new Entry(tool, target);
+            targets.put(target, e);
+        }
+        return e;
+    }
+
+    /** 全部条目，按估算耗时从高到低排列 */
+    public synchronized List<Entry> entries() {
+        List<Entry> list = new ArrayList<>();
+        for (Map<String, Entry> targets : entries.values()) list.addAll(targets.values());
+        Collections.sort(list, (a, b) -> Long.compare(b.estimatedNanos(), a.estimatedNanos()));
+        return list;
+    }
+
+    /** 是否没有任何调用 */
+    public synchronized boolean isEmpty() {
+        for (Map<String, Entry> targets : entries.values()) {
+            for (Entry e : targets.values()) {
+                if (e.calls() > 0) return false;
+            }
+        }
+        return true;
+    }
+
+    /** 把 other 的统计累加到当前对象 */
+    public void merge(ConversionStats other) {
+        for (Entry e : other.entries()) {
+            synchronized (e) {
+                entry(e.tool, e.target).add(e.calls, e.inChars, e.outChars, e.sampledCalls, e.sampledNanos);
+            }
+        }
+    }
+
+    /** 清空统计 */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /** 多行的统计摘要，用于日志 */
+    public String summary() {
+        List<Entry> list = entries();
+        long calls = 0, nanos = 0;
+        for (Entry e : list) {
+            calls += e.calls();
+            nanos += e.estimatedNanos();
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "converter stats: %d calls, time≈%s", calls, formatNanos(nanos)));
+        for (Entry e : list) sb.append("\n  ").append(e);
+        return sb.toString();
+    }
+
+    // ===================== 保存 =====================
+
+    /**
+     * 编码为文本，每个条目一行，字段以制表符分隔。
+     */
+    public String encode() {
+        StringBuilder sb = new StringBuilder();
+        for (Entry e : entries()) {
+            synchronized (e) {
+                sb.append(e.tool).append('\t').append(e.target)
+                        .append('\t').append(e.calls).append('\t').append(e.inChars).append('\t').append(e.outChars)
+                        .append('\t').append(e.sampledCalls).append('\t').append(e.sampledNanos).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 解码 {@link #encode()} 的结果，忽略格式错误的行。
+     *
+     * @param text 编码后的文本，为 null 时返回空的统计
+     */
+    public static ConversionStats decode(String text) {
+        ConversionStats stats = new ConversionStats();
+        if (text == null) return stats;
+        for (String line : text.split("\n")) {
+            String[] f = line.split("\t");
+            if (f.length != 7) continue;
+            long[] v = new long[5];
+            try {
+                for (int i = 0; i < v.length; i++) v[i] = Long.parseLong(f[i + 2]);
+            } catch (NumberFormatException e) {
+                // 跳过损坏的行
+                continue;
+            }
+            stats.entry(f[0], f[1]).add(v[0], v[1], v[2], v[3], v[4]);
+        }
+        return stats;
+    }
+
+    /** 把纳秒格式化为 µs / ms / s */
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000_000) return String.format(Locale.ROOT, "%.1fµs", nanos / 1e3);
+        if (nanos < 1_000_000_000) return String.format(Locale.ROOT, "%.1fms", nanos / 1e6);
+        return String.format(Locale.ROOT, "%.2fs", nanos / 1e9);
+    }
+}
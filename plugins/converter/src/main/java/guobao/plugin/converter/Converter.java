@@ -8,27 +8,184 @@ import bin.mt.plugin.api.PluginContext;
 import bin.mt.plugin.api.preference.PluginPreference;
 
 import guobao.plugin.converter.Case;
+import guobao.plugin.converter.tool.ConversionTool;
+import guobao.plugin.converter.tool.ConversionTools;
 import guobao.plugin.converter.util.*;
 
-import io.github.guobao2333.bbcoeter.*;
-import io.github.guobao2333.bbcoeter.dom.DOMAdapter;
-import io.github.guobao2333.bbcoeter.dom.JsoupDOMAdapter;
 import java.io.*;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Converter {
 
     private PluginContext context;
     private SharedPreferences config;
+    // 各转换工具在第一次使用时才创建
+    private final ConversionTools tools = new ConversionTools(this);
+    // 本实例（即一次翻译过程）的调用统计
+    private final ConversionStats stats = new ConversionStats();
+    // 本实例的转换结果缓存，相同的原文只转换一次
+    private final ConversionCache cache = new ConversionCache(ConversionCache.DEFAULT_MAX_CHARS);
 
-    private static final Pattern UNICODE_PATTERN = Pattern.compile("\\\\u([0-9a-fA-F]{4})");
+    // 命名法转换的设置项
+    private static final String KEY_UPPER_CONTINUOUS = "upper_continuous";
+    private static final String KEY_SPLIT_NUMBER = "split_number";
+    private static final String KEY_SPLIT_SYMBOL = "split_symbol";
+    private static final String KEY_CAMEL_UPPER = "camel_upper";
+    private static final String KEY_CASE_CACHE = "case_cache";
+
+    // 每种设置组合对应的分词配置，配置不可变，按需构建后在所有实例间共享
+    private static final Case.TokenizerConfig[] CASE_CONFIGS = new Case.TokenizerConfig[8];
+    // 命名风格转换结果的缓存，翻译引擎逐条转换字符串表时重复的标识符直接命中
+    private static final CaseCache CASE_CACHE = new CaseCache(CaseCache.DEFAULT_MAX_CHARS);
+    // 当前设置的快照，设置变化时由监听器换成版本号加一的空快照，下次转换时重新读取
+    private static final AtomicReference<CaseSettings> CASE_SETTINGS = new AtomicReference<>(new CaseSettings(0));
+    // 任意设置变化或更换设置对象时递增；转换前读取，ConversionCache 据此丢弃旧结果、不保存过期的结果
+    private static volatile int settingsVersion;
+    private static SharedPreferences watchedPrefs;
+    // SharedPreferences 只弱引用监听器，必须由字段持有
+    private static final SharedPreferences.OnSharedPreferenceChangeListener PREF_LISTENER = (prefs, key) -> {
+        // 转换统计由 onFinish 写入，不影响转换结果，也不涉及命名法设置
+        if (ConversionStats.KEY_STATS.equals(key)) return;
+        // 任意影响转换结果的设置变化，会话缓存中的旧结果随之失效
+        settingsVersion++;
+        // key 为 null 表示设置被清空
+        if (key == null || KEY_UPPER_CONTINUOUS.equals(key) || KEY_SPLIT_NUMBER.equals(key) || KEY_SPLIT_SYMBOL.equals(key) || KEY_CAMEL_UPPER.equals(key) || KEY_CASE_CACHE.equals(key)) {
+            invalidateCaseSettings();
+        }
+    };
+
+    /** 命名法转换设置的快照 */
+    private static final class CaseSettings {
+        final int version;
+        // 为 null 表示设置变化后尚未重新读取
+        final Case.TokenizerConfig tokenizer;
+        final boolean camelUpper;
+        final boolean cache;
+
+        CaseSettings(int version) {
+            this(version, null, false, false);
+        }
+
+        CaseSettings(int version, Case.TokenizerConfig tokenizer, boolean camelUpper, boolean cache) {
+            this.version = version;
+            this.tokenizer = tokenizer;
+            this.camelUpper = camelUpper;
+            this.cache = cache;
+        }
+    }
 
     public Converter(PluginContext context) {
         this.context = context;
         this.config = context.getPreferences();
+        watch(config);
+    }
+
+    private static synchronized void watch(SharedPreferences prefs) {
+        if (watchedPrefs == prefs) return;
+        if (watchedPrefs != null) watchedPrefs.unregisterOnSharedPreferenceChangeListener(PREF_LISTENER);
+        prefs.registerOnSharedPreferenceChangeListener(PREF_LISTENER);
+        watchedPrefs = prefs;
+        settingsVersion++;
+        invalidateCaseSettings();
+    }
+
+    private static void invalidateCaseSettings() {
+        CASE_SETTINGS.getAndUpdate(s -> new CaseSettings(s.version + 1));
+    }
+
+    private CaseSettings caseSettings() {
+        final CaseSettings current = CASE_SETTINGS.get();
+        CaseSettings settings = current;
+        if (settings.tokenizer == null) {
+            final long t0 = System.nanoTime();
+            final boolean upperContinuous = config.getBoolean(KEY_UPPER_CONTINUOUS, false); // 保持大写
+            final boolean splitNumber = config.getBoolean(KEY_SPLIT_NUMBER, false); // 分割数字
+            final boolean splitSymbol = config.getBoolean(KEY_SPLIT_SYMBOL, false); // 分割符号与不同文字
+            final boolean camelUpper = config.getBoolean(KEY_CAMEL_UPPER, false);
+            final boolean cache = config.getBoolean(KEY_CASE_CACHE, true); // 缓存转换结果
+            if (!cache) CASE_CACHE.clear();
+            settings = new CaseSettings(current.version, caseConfig(upperContinuous, splitNumber, splitSymbol), camelUpper, cache);
+            // 读取期间设置再次变化时，监听器已换上新版本的快照，比较失败，刚读到的旧设置不会被发布
+            CASE_SETTINGS.compareAndSet(current, settings);
+            stats.entry("case", ConversionStats.CONFIG).add(1, 0, 0, 1, System.nanoTime() - t0);
+        }
+        return settings;
+    }
+
+    public PluginContext getContext() {
+        return context;
+    }
+
+    /**
+     * 获取转换工具，第一次获取时创建
+     *
+     * @return 工具实例，未注册时返回 null
+     */
+    public ConversionTool tool(String id) {
+        return tools.get(id);
+    }
+
+    /** 本实例的调用统计 */
+    public ConversionStats stats() {
+        return stats;
+    }
+
+    /** 本实例的转换结果缓存，可用于查看命中情况 */
+    public ConversionCache cache() {
+        return cache;
+    }
+
+    /**
+     * 结果能否保存在会话缓存中。
+     *
+     * <p>启用命名法缓存时，命名风格转换的结果已由 {@link #CASE_CACHE} 跨翻译过程保存，不再重复缓存一份。
+     */
+    private boolean sessionCacheable(ConversionTool cvt, String tool, String to) {
+        if (!cvt.cacheable(to)) return false;
+        return !"case".equals(tool) || !isCaseStyle(to) || !caseSettings().cache;
+    }
+
+    /**
+     * 保存在设置版本 version 下得到的转换结果，转换期间设置已变化时不保存。
+     *
+     * <p>检查之后才发生的变化由 {@link ConversionCache#put(int, String, String, String, String)} 在锁内识别，
+     * 或在下次查找时连同其他旧结果一起丢弃。
+     */
+    private void cacheResult(int version, String tool, String to, String text, String result) {
+        if (settingsVersion == version) cache.put(version, tool, to, text, result);
+    }
+
+    /** 经过 {@link #caseStyle} 即 CASE_CACHE 的命名法目标 */
+    private static boolean isCaseStyle(String to) {
+        return switch (to) {
+            case "constant", "snake", "camel", "pascal", "path", "kebab", "chain", "space" -> true;
+            default -> false;
+        };
+    }
+
+    /** 当前设置对应的命名法分词配置 */
+    public Case.TokenizerConfig caseTokenizer() {
+        return caseSettings().tokenizer;
+    }
+
+    /** 命名风格转换结果缓存，可用于查看命中情况 */
+    public static CaseCache caseCache() {
+        return CASE_CACHE;
+    }
+
+    private static Case.TokenizerConfig caseConfig(boolean upperContinuous, boolean splitNumber, boolean splitSymbol) {
+        int idx = (upperContinuous ? 1 : 0) | (splitNumber ? 2 : 0) | (splitSymbol ? 4 : 0);
+        Case.TokenizerConfig cfg = CASE_CONFIGS[idx];
+        if (cfg == null) {
+            cfg = new Case.TokenizerConfig.Builder()
+                    .splitUpperContinuous(upperContinuous)
+                    .rules(Case.SplitRule.CASE, splitNumber ? Case.SplitRule.NUMBER : null, splitSymbol ? Case.SplitRule.SYMBOL : null)
+                    .build();
+            CASE_CONFIGS[idx] = cfg;
+        }
+        return cfg;
     }
 
     /*public void main(String[] args) {
@@ -37,100 +194,160 @@ public class Converter {
     }*/
 
     public String convert(String t, String tool, String to) throws IOException {
-        switch (tool) {
-            case "md_ubb": return bbcode(t, to);
-            case "case": return strCase(t, to);
-            case "unicode": return unicode(t, to);
-            case "zshh": return zshh(t, to);
+        ConversionTool cvt = tools.get(tool);
+        if (cvt == null) return "ERROR: 功能开发中";
+        // 在读取任何设置之前取得版本，转换期间设置变化时结果不会被缓存
+        final int version = settingsVersion;
+        final boolean cacheable = t != null && sessionCacheable(cvt, tool, to);
+        if (cacheable) {
+            String cached = cache.get(version, tool, to, t);
+            if (cached != null) return cached;
         }
-        return "ERROR: 功能开发中";
+        ConversionStats.Entry stat = stats.entry(tool, to);
+        final boolean timed = stat.sample();
+        final long t0 = timed ? System.nanoTime() : 0;
+        String result = cvt.convert(t, to);
+        final long nanos = timed ? System.nanoTime() - t0 : 0;
+        stat.add(1, t == null ? 0 : t.length(), result == null ? 0 : result.length(), timed ? 1 : 0, nanos);
+        if (cacheable && result != null) cacheResult(version, tool, to, t, result);
+        return result;
     }
 
-    public String bbcode(String str, String to) throws IOException {
-        try {
-        MarkdownUbbConverter cvt = new MarkdownUbbConverter();
-        return "ubb".equals(to) ? cvt.toUBB(str) : cvt.toMarkdown(str);
-
-        /*DOMAdapter adapter = new JsoupDOMAdapter();
-        BBCodeConverter bbcc = new BBCodeConverter(adapter);
-
-        // 配置
-        bbcc.setAllowBBCode(true);
-        bbcc.setAllowHTML(true);
-        bbcc.setEscapeHtmlInOutput(true);
-
-        return switch(to) {
-            case "ubb" -> bbcc.htmlToBBCode(str);
-            case "html" -> bbcc.bbcodeToHtml(str);
-            case "markdown" -> str; //bbcc.bbcodeToMarkdown(str);
-            default -> str;
-        };*/
-
-        // return "Development work is still in progress...";
-        } catch(Exception err) {
-        	throw err;
+    /**
+     * 批量转换：text 由多个词条以 separator 连接而成，逐段转换后按原顺序重新连接。
+     *
+     * <p>所有词条共用同一个工具实例，分词配置、缓冲区与解析器只准备一次；相同的词条只转换一次（见 {@link ConversionCache}）。
+     *
+     * <p>只有能逐行转换的工具（见 {@link ConversionTools.Registration#batch}）才按 separator 拆分；
+     * Markdown、字节编解码等跨行的工具与流水线把整段文本当作一个词条转换。
+     * 某段的结果中出现 separator 时（如解码出换行），改为整段转换，结果与逐段转换后连接相同。
+     */
+    public String convertBatch(String text, String tool, String to, String separator) throws IOException {
+        ConversionTools.Registration r = ConversionTools.registration(tool);
+        int next = text == null || separator.isEmpty() ? -1 : text.indexOf(separator);
+        if (next < 0 || r == null || !r.batch) return convert(text, tool, to);
+        ConversionTool cvt = tools.get(tool);
+        final int version = settingsVersion;
+        final boolean cacheable = sessionCacheable(cvt, tool, to);
+        ConversionStats.Entry stat = stats.entry(tool, to);
+        // 整批的统计先在局部变量中累加，命中缓存的词条不计入
+        long calls = 0, inChars = 0, outChars = 0, sampled = 0, nanos = 0;
+        final int sepLen = separator.length();
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        int start = 0;
+        while (true) {
+            int end = next < 0 ? text.length() : next;
+            String segment = text.substring(start, end);
+            String result = cacheable ? cache.get(version, tool, to, segment) : null;
+            if (result == null) {
+                final boolean timed = stat.sample();
+                final long t0 = timed ? System.nanoTime() : 0;
+                result = cvt.convert(segment, to);
+                if (timed) {
+                    nanos += System.nanoTime() - t0;
+                    sampled++;
+                }
+                calls++;
+                inChars += segment.length();
+                if (result != null) {
+                    outChars += result.length();
+                    if (cacheable) cacheResult(version, tool, to, segment, result);
+                }
+            }
+            if (result != null) {
+                if (result.contains(separator)) {
+                    stat.add(calls, inChars, outChars, sampled, nanos);
+                    return convert(text, tool, to);
+                }
+                out.append(result);
+            }
+            if (next < 0) break;
+            out.append(separator);
+            start = next + sepLen;
+            next = text.indexOf(separator, start);
         }
+        stat.add(calls, inChars, outChars, sampled, nanos);
+        return out.toString();
     }
 
     public static String unicode(String str, String to) {
+        return unicode(str, to, 0);
+    }
+
+    /**
+     * Unicode 转义序列编解码
+     *
+     * @param flags 编码选项，见 {@link UnicodeEscape}
+     */
+    public static String unicode(String str, String to, int flags) {
         if (str == null || str.isEmpty()) return str;
 
         return switch (to) {
-            case "encode" -> str.chars()
-                .mapToObj(c -> c < 128 ? String.valueOf((char) c) : String.format("\\u%04x", c))
-                .collect(Collectors.joining());
-            case "decode" -> 
-                // 如果有报错不用管，因为从kt调用
-                StringCompat.replaceAllCompat(str, UNICODE_PATTERN, matchResult -> {
-                    String hex = matchResult.group(1);
-                    int codePoint = Integer.parseInt(hex, 16);
-                    return new String(Character.toChars(codePoint));
-                });
+            case "encode" -> UnicodeEscape.encode(str, flags);
+            case "decode" -> UnicodeEscape.decode(str, flags);
             default -> str;
         };
     }
 
-    public String zshh(String source, String target) throws IOException {
-        ZshHist zsh = new ZshHist();
-        String outputPath = source + "_" + target;
-        try {
-            zsh.process(source, outputPath, "encode".equals(target));
-        } catch (FileNotFoundException e) {
-            throw new FileNotFoundException(context.getString(e.getMessage()));
-        }
-
-        return context.getString(target) + context.getString("zshh_out") + outputPath;
-    }
-
     public String strCase(String str, String to) throws IOException {
         if (str == null || str.isEmpty()) return str;
 
-        final boolean upperContinuous = config.getBoolean("upper_continuous", false); // 保持大写
-        final boolean splitNumber = config.getBoolean("split_number", false); // 分割数字
-        final boolean camelUpper = config.getBoolean("camel_upper", false);
-        //Case.TokenizerConfig defaultConfig = new Case.TokenizerConfig(upperContinuous, splitNumber);
+        final CaseSettings settings = caseSettings();
+        final Case.TokenizerConfig defaultConfig = settings.tokenizer;
+        final boolean camelUpper = settings.camelUpper;
+        final boolean cache = settings.cache;
+
+        switch (to) {
+            // 大小写转换与设备语言无关，避免土耳其语等环境下 i 被转换为 İ
+            case "upper": return CaseMapper.toUpper(str);
+            case "lower": return CaseMapper.toLower(str);
+            case "swap": return CaseMapper.swapCase(str);
+            case "title_case": return CaseMapper.toTitle(str);
+            // 已经是目标风格的字符串由 Case.convert 直接返回，不再分词
+            case "constant": return caseStyle(str, Case.Style.CONSTANT, defaultConfig, cache);
+            case "reverse": return CaseMapper.reverse(str);
+            case "snake": return caseStyle(str, Case.Style.SNAKE, defaultConfig, cache);
+            case "camel": return caseStyle(str, camelUpper ? Case.Style.PASCAL : Case.Style.CAMEL, defaultConfig, cache);
+            // 以下目标使用默认分词配置，与 Case.toPascalCase 等快捷方法一致
+            case "pascal": return caseStyle(str, Case.Style.PASCAL, Case.TokenizerConfig.defaults(), cache);
+            case "path": return caseStyle(str, Case.Style.PATH, Case.TokenizerConfig.defaults(), cache);
+            case "kebab": return caseStyle(str, Case.Style.KEBAB, Case.TokenizerConfig.defaults(), cache);
+            case "chain": return caseStyle(str, Case.Style.CHAIN, Case.TokenizerConfig.defaults(), cache);
+            case "space": return caseStyle(str, Case.Style.SPACE, Case.TokenizerConfig.defaults(), cache);
+            default: return "正在开发中……";
+        }
+    }
 
-        // 使用新的 Builder 模式创建配置
-        Case.TokenizerConfig.Builder configBuilder = new Case.TokenizerConfig.Builder()
-                .splitUpperContinuous(upperContinuous)
-                .rules(Case.SplitRule.CASE, splitNumber ? Case.SplitRule.NUMBER : null);
+    /**
+     * {@link #strCase(String, String)} 的追加版本：转换 src 的 [start, end) 区间并追加到 out，不经过缓存。
+     */
+    public void strCase(CharSequence src, int start, int end, String to, StringBuilder out) {
+        if (start == end) return;
 
-        Case.TokenizerConfig defaultConfig = configBuilder.build();
+        final CaseSettings settings = caseSettings();
+        final Case.TokenizerConfig defaultConfig = settings.tokenizer;
+        final int len = end - start;
 
         switch (to) {
-            case "upper": return str.toUpperCase();
-            case "lower": return str.toLowerCase();
-            case "constant": return Case.toSnakeCase(str, defaultConfig, true);
-            case "reverse": return new StringBuilder(str).reverse().toString();
-            case "snake": return Case.toSnakeCase(str, defaultConfig, false);
-            case "camel": return Case.toCamelCase(str, defaultConfig, camelUpper, true);
-            case "pascal": return Case.toPascalCase(str); // 使用新的快捷方法
-            case "path": return Case.toPathCase(str);
-            case "kebab": return Case.toKebabCase(str);
-            case "chain": return Case.toChainCase(str);
-            case "space": return Case.toSpaceCase(str);
-            default: return "正在开发中……";
+            case "upper" -> CaseMapper.toUpper(src, start, end, out);
+            case "lower" -> CaseMapper.toLower(src, start, end, out);
+            case "swap" -> CaseMapper.swapCase(src, start, end, out);
+            case "title_case" -> CaseMapper.toTitle(src, start, end, out);
+            case "reverse" -> CaseMapper.reverse(src, start, end, out);
+            case "constant" -> Case.convert(src, start, len, Case.Style.CONSTANT, defaultConfig, out);
+            case "snake" -> Case.convert(src, start, len, Case.Style.SNAKE, defaultConfig, out);
+            case "camel" -> Case.convert(src, start, len, settings.camelUpper ? Case.Style.PASCAL : Case.Style.CAMEL, defaultConfig, out);
+            case "pascal" -> Case.convert(src, start, len, Case.Style.PASCAL, Case.TokenizerConfig.defaults(), out);
+            case "path" -> Case.convert(src, start, len, Case.Style.PATH, Case.TokenizerConfig.defaults(), out);
+            case "kebab" -> Case.convert(src, start, len, Case.Style.KEBAB, Case.TokenizerConfig.defaults(), out);
+            case "chain" -> Case.convert(src, start, len, Case.Style.CHAIN, Case.TokenizerConfig.defaults(), out);
+            case "space" -> Case.convert(src, start, len, Case.Style.SPACE, Case.TokenizerConfig.defaults(), out);
+            default -> out.append("正在开发中……");
         }
     }
 
+    private static String caseStyle(String str, Case.Style style, Case.TokenizerConfig cfg, boolean cache) {
+        return cache ? CASE_CACHE.convert(str, style, cfg) : Case.convert(str, style, cfg);
+    }
+
 }
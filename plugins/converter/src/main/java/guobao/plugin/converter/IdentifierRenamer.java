@@ -0,0 +1,170 @@
+package guobao.plugin.converter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 按命名法批量重命名标识符。
+ *
+ * <p>先从一段文本（通常是选中的内容）中收集标识符，通过 {@link IdentifierRewriter} 得到每个标识符的新名称，
+ * 组成一张「旧名称 → 新名称」的表；之后只需对全文做一次词法扫描，
+ * 每个标识符按字符区间在表中查找（不生成子串），即可得到全部需要替换的位置。
+ * 与逐个标识符执行查找替换相比，耗时与标识符的数量无关。
+ *
+ * <p>实例不是线程安全的。
+ *
+ * <p>示例：
+ * <pre>{@code
+ * IdentifierRenamer renamer = new IdentifierRenamer(Case.Style.CONSTANT, null);
+ * renamer.collect("maxSize, minSize", 0, 16);
+ * IdentifierRenamer.Edits edits = renamer.find(text, 0, text.length());
+ * // 按从后往前的顺序应用 edits，即可把全文的 maxSize、minSize 替换为 MAX_SIZE、MIN_SIZE
+ * }</pre>
+ */
+public final class IdentifierRenamer {
+
+    private final IdentifierRewriter rewriter;
+    private final StringBuilder buf = new StringBuilder(64);
+
+    // 开放寻址哈希表，容量为 2 的幂
+    private String[] keys = new String[16];
+    private String[] values = new String[16];
+    private int size;
+
+    /**
+     * @param style 目标风格
+     * @param cfg   分词器配置，为 null 时使用默认配置
+     */
+    public IdentifierRenamer(Case.Style style, Case.TokenizerConfig cfg) {
+        this.rewriter = new IdentifierRewriter(style, cfg, false);
+    }
+
+    /**
+     * 收集 src 的 [start, end) 区间中需要重命名的标识符。
+     *
+     * @return 表中的标识符数量
+     */
+    public int collect(CharSequence src, int start, int end) {
+        int i = start;
+        while (i < end) {
+            char c = src.charAt(i);
+            if (IdentifierRewriter.isIdentifierStart(c)) {
+                int j = IdentifierRewriter.identifierEnd(src, i + 1, end);
+                if (lookup(src, i, j) == null) add(src, i, j);
+                i = j;
+            } else if ((Case.charClass(c) & Case.DIGIT) != 0) {
+                i = IdentifierRewriter.numberEnd(src, i + 1, end);
+            } else {
+                i++;
+            }
+        }
+        return size;
+    }
+
+    /** 表中的标识符数量 */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 单遍扫描 text 的 [start, end) 区间，找出所有需要重命名的位置。
+     *
+     * @return 按位置升序排列的替换列表
+     */
+    public Edits find(CharSequence text, int start, int end) {
+        Edits edits = new Edits();
+        if (size == 0) return edits;
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (IdentifierRewriter.isIdentifierStart(c)) {
+                int j = IdentifierRewriter.identifierEnd(text, i + 1, end);
+                String value = lookup(text, i, j);
+                if (value != null) edits.add(i, j, value);
+                i = j;
+            } else if ((Case.charClass(c) & Case.DIGIT) != 0) {
+                i = IdentifierRewriter.numberEnd(text, i + 1, end);
+            } else {
+                i++;
+            }
+        }
+        return edits;
+    }
+
+    private void add(CharSequence src, int s, int e) {
+        buf.setLength(0);
+        try {
+            if (rewriter.rewrite(src, s, e, buf) == 0) return;
+        } catch (IOException ex) {
+            // StringBuilder 不会抛出 IOException
+            throw new AssertionError(ex);
+        }
+        if ((size + 1) * 2 > keys.length) grow();
+        String key = src.subSequence(s, e).toString();
+        int mask = keys.length - 1;
+        int slot = key.hashCode() & mask;
+        while (keys[slot] != null) slot = (slot + 1) & mask;
+        keys[slot] = key;
+        values[slot] = buf.toString();
+        size++;
+    }
+
+    /** 按字符区间查找，未收录时返回 null；哈希算法与 String.hashCode 一致 */
+    private String lookup(CharSequence src, int s, int e) {
+        int h = 0;
+        for (int i = s; i < e; i++) h = 31 * h + src.charAt(i);
+        int mask = keys.length - 1;
+        for (int slot = h & mask; ; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key == null) return null;
+            if (key.length() == e - s && regionEquals(key, src, s)) return values[slot];
+        }
+    }
+
+    private static boolean regionEquals(String key, CharSequence src, int s) {
+        for (int i = 0, n = key.length(); i < n; i++) {
+            if (key.charAt(i) != src.charAt(s + i)) return false;
+        }
+        return true;
+    }
+
+    private void grow() {
+        String[] oldKeys = keys, oldValues = values;
+        keys = new String[oldKeys.length * 2];
+        values = new String[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            String key = oldKeys[i];
+            if (key == null) continue;
+            int slot = key.hashCode() & mask;
+            while (keys[slot] != null) slot = (slot + 1) & mask;
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /** 替换列表：每项为原文中的 [start, end) 区间及替换后的内容 */
+    public static final class Edits {
+        private int[] bounds = new int[32];
+        private String[] replacements = new String[16];
+        private int count;
+
+        public int count() { return count; }
+
+        public int start(int i) { return bounds[i << 1]; }
+
+        public int end(int i) { return bounds[(i << 1) + 1]; }
+
+        public String replacement(int i) { return replacements[i]; }
+
+        void add(int s, int e, String replacement) {
+            if (count == replacements.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                replacements = Arrays.copyOf(replacements, replacements.length * 2);
+            }
+            bounds[count << 1] = s;
+            bounds[(count << 1) + 1] = e;
+            replacements[count++] = replacement;
+        }
+    }
+}
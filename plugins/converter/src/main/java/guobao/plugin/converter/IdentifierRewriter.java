@@ -0,0 +1,238 @@
+package guobao.plugin.converter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * 整篇文本的标识符命名法转换。
+ *
+ * <p>单遍扫描输入，找出其中的标识符并按目标风格改写，其余字符原样输出。
+ * 结果直接写入调用方提供的 {@link Appendable} 或 {@link Writer}，不会生成第二份完整的字符串；
+ * 从 {@link Reader} 读取时按块处理，内存占用只与块大小和最长的标识符有关。
+ * 就地修改编辑器中的文本时可以用 {@link #find} 只收集需要替换的位置，内存占用只与替换的数量有关。
+ *
+ * <p>标识符以字母、'_' 或 '$' 开头，由字母、数字、'_' 和 '$' 组成；以数字开头的数字字面量（如 0x1F、1.5e3）不做转换。
+ * 标识符首尾的 '_' 与 '$' 原样保留（如 _value、__init__）。
+ *
+ * <p>实例内部持有临时缓冲区，不是线程安全的。
+ *
+ * <p>示例：
+ * <pre>{@code
+ * IdentifierRewriter rw = new IdentifierRewriter(Case.Style.SNAKE, TokenizerConfig.defaults(), true);
+ * StringBuilder out = new StringBuilder();
+ * rw.rewrite("int myValue = getValue(\"someText\");", out);
+ * // 结果: int my_value = get_value("someText");
+ * }</pre>
+ */
+public final class IdentifierRewriter {
+    /** 从 Reader 读取时的块大小 */
+    static final int CHUNK_SIZE = 8192;
+
+    private final Case.Style style;
+    private final Case.TokenizerConfig cfg;
+    private final boolean skipQuoted;
+
+    private final Case.TokenBuffer tokens = new Case.TokenBuffer();
+    private final StringBuilder word = new StringBuilder(64);
+
+    // 跨块扫描时需要保留的状态：所在字符串的引号（0 表示不在字符串内）以及上一个字符是否为转义符
+    private char quote;
+    private boolean escaped;
+    private int changed;
+    // find 时记录替换位置，此时不输出文本
+    private IdentifierRenamer.Edits edits;
+
+    /**
+     * @param style      目标风格
+     * @param cfg        分词器配置，为 null 时使用默认配置
+     * @param skipQuoted 是否跳过引号（"、'、`）中的内容
+     */
+    public IdentifierRewriter(Case.Style style, Case.TokenizerConfig cfg, boolean skipQuoted) {
+        if (style == null) throw new IllegalArgumentException("style == null");
+        this.style = style;
+        this.cfg = cfg == null ? Case.TokenizerConfig.defaults() : cfg;
+        this.skipQuoted = skipQuoted;
+    }
+
+    /**
+     * 转换整段文本。
+     *
+     * @return 被改写的标识符数量
+     */
+    public int rewrite(CharSequence src, Appendable out) throws IOException {
+        return rewrite(src, 0, src.length(), out);
+    }
+
+    /**
+     * 转换 src 的 [start, end) 区间，结果追加到 out。
+     *
+     * @return 被改写的标识符数量
+     */
+    public int rewrite(CharSequence src, int start, int end, Appendable out) throws IOException {
+        reset();
+        scan(src, null, start, end, true, out);
+        return changed;
+    }
+
+    /**
+     * 从 in 读取全部内容并把转换结果写入 out，不会关闭或刷新两者。
+     *
+     * @return 被改写的标识符数量
+     */
+    public int rewrite(Reader in, Writer out) throws IOException {
+        reset();
+        char[] buf = new char[CHUNK_SIZE];
+        int len = 0;
+        while (true) {
+            // 块末尾的标识符可能还没读完，留到下一块；单个标识符超过缓冲区时扩容
+            if (len == buf.length) buf = Arrays.copyOf(buf, buf.length * 2);
+            int n = in.read(buf, len, buf.length - len);
+            boolean eof = n < 0;
+            if (!eof) len += n;
+            int done = scan(CharBuffer.wrap(buf, 0, len), buf, 0, len, eof, out);
+            if (eof) break;
+            len -= done;
+            System.arraycopy(buf, done, buf, 0, len);
+        }
+        return changed;
+    }
+
+    /**
+     * 只收集 src 的 [start, end) 区间中需要改写的标识符，不输出文本。
+     *
+     * @return 按位置排列的替换列表，从后往前应用即可得到 {@link #rewrite(CharSequence, int, int, Appendable)} 的结果
+     */
+    public IdentifierRenamer.Edits find(CharSequence src, int start, int end) {
+        reset();
+        IdentifierRenamer.Edits result = new IdentifierRenamer.Edits();
+        edits = result;
+        try {
+            scan(src, null, start, end, true, null);
+        } catch (IOException e) {
+            // 没有输出，不会发生
+            throw new AssertionError(e);
+        } finally {
+            edits = null;
+        }
+        return result;
+    }
+
+    /** 最近一次 rewrite 改写的标识符数量 */
+    public int changedCount() {
+        return changed;
+    }
+
+    private void reset() {
+        quote = 0;
+        escaped = false;
+        changed = 0;
+    }
+
+    /**
+     * 扫描 [start, end)，返回已处理到的位置。
+     * eof 为 false 时，碰到区间末尾的标识符或数字不做处理，由调用方补齐后再扫描。
+     * raw 非 null 时 src 是它的包装，直接以 char[] 写入 Writer 以免生成临时字符串。
+     */
+    private int scan(CharSequence src, char[] raw, int start, int end, boolean eof, Appendable out) throws IOException {
+        int copyFrom = start;
+        int i = start;
+        while (i < end) {
+            char c = src.charAt(i);
+            if (quote != 0) {
+                if (escaped) escaped = false;
+                else if (c == '\\') escaped = true;
+                else if (c == quote || (c == '\n' && quote != '`')) quote = 0;
+                i++;
+            } else if (skipQuoted && (c == '"' || c == '\'' || c == '`')) {
+                quote = c;
+                i++;
+            } else if (isIdentifierStart(c)) {
+                int j = identifierEnd(src, i + 1, end);
+                if (j == end && !eof) break;
+                copyFrom = rewriteIdentifier(src, raw, i, j, copyFrom, out);
+                i = j;
+            } else if ((Case.charClass(c) & Case.DIGIT) != 0) {
+                int j = numberEnd(src, i + 1, end);
+                if (j == end && !eof) break;
+                i = j;
+            } else {
+                i++;
+            }
+        }
+        copy(src, raw, copyFrom, i, out);
+        return i;
+    }
+
+    /** 改写 [s, e) 处的标识符，返回新的待复制起点 */
+    private int rewriteIdentifier(CharSequence src, char[] raw, int s, int e, int copyFrom, Appendable out) throws IOException {
+        int a = s, b = e;
+        while (a < b && (Case.charClass(src.charAt(a)) & Case.ALNUM) == 0) a++;
+        while (b > a && (Case.charClass(src.charAt(b - 1)) & Case.ALNUM) == 0) b--;
+        if (a == b) return copyFrom;
+
+        word.setLength(0);
+        Case.appendStyle(src, a, b - a, style, cfg, tokens, word);
+        if (contentEquals(word, src, a, b)) return copyFrom;
+
+        changed++;
+        if (edits != null) {
+            edits.add(a, b, word.toString());
+            return copyFrom;
+        }
+        // 只有内容变化时才输出，未变化的部分继续累积，合并成一次复制
+        copy(src, raw, copyFrom, a, out);
+        out.append(word);
+        return b;
+    }
+
+    private static void copy(CharSequence src, char[] raw, int from, int to, Appendable out) throws IOException {
+        if (from >= to || out == null) return;
+        if (raw != null && out instanceof Writer w) w.write(raw, from, to - from);
+        else out.append(src, from, to);
+    }
+
+    private static boolean contentEquals(StringBuilder sb, CharSequence src, int s, int e) {
+        if (sb.length() != e - s) return false;
+        for (int i = 0; i < sb.length(); i++) {
+            if (sb.charAt(i) != src.charAt(s + i)) return false;
+        }
+        return true;
+    }
+
+    // ===================== 词法判断 =====================
+
+    static boolean isIdentifierStart(char c) {
+        return c == '_' || c == '$' || (Case.charClass(c) & Case.LETTER) != 0;
+    }
+
+    static boolean isIdentifierPart(char c) {
+        return c == '_' || c == '$' || (Case.charClass(c) & Case.ALNUM) != 0;
+    }
+
+    /** 返回从 i 开始的标识符剩余部分的结束位置 */
+    static int identifierEnd(CharSequence src, int i, int end) {
+        while (i < end && isIdentifierPart(src.charAt(i))) i++;
+        return i;
+    }
+
+    /** 返回数字字面量剩余部分的结束位置，包括进制前缀、后缀以及后面跟数字的小数点 */
+    static int numberEnd(CharSequence src, int i, int end) {
+        while (i < end) {
+            char c = src.charAt(i);
+            if (isIdentifierPart(c)) {
+                i++;
+            } else if (c == '.') {
+                // 末尾的小数点要等下一块才能确定是否属于数字
+                if (i + 1 == end) return end;
+                if ((Case.charClass(src.charAt(i + 1)) & Case.DIGIT) == 0) break;
+                i += 2;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+}
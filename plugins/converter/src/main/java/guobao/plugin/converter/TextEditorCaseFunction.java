@@ -0,0 +1,177 @@
+package guobao.plugin.converter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+import bin.mt.json.JSONObject;
+import bin.mt.plugin.api.editor.BaseTextEditorFunction;
+import bin.mt.plugin.api.editor.BufferedText;
+import bin.mt.plugin.api.editor.TextEditor;
+import bin.mt.plugin.api.ui.PluginUI;
+import bin.mt.plugin.api.ui.PluginView;
+import bin.mt.plugin.api.ui.dialog.LoadingDialog;
+import bin.mt.plugin.api.util.AsyncTask;
+
+/**
+ * 将选中文本或全文中的标识符转换为指定命名法。
+ */
+public class TextEditorCaseFunction extends BaseTextEditorFunction {
+
+    // 与下拉框中的选项一一对应
+    private static final Case.Style[] STYLES = {
+            Case.Style.SNAKE, Case.Style.CONSTANT, Case.Style.CAMEL, Case.Style.PASCAL,
+            Case.Style.KEBAB, Case.Style.CHAIN, Case.Style.PATH, Case.Style.SPACE
+    };
+
+    @NonNull
+    @Override
+    public String name() {
+        return "{editor:case_convert}";
+    }
+
+    @Override
+    public boolean supportEditTextView() {
+        return false;
+    }
+
+    @Override
+    public boolean supportRepeat() {
+        return true;
+    }
+
+    @Override
+    public PluginView buildOptionsView(@NonNull PluginUI pluginUI, @Nullable JSONObject data) {
+        List<String> styleList = pluginUI.getContext().getStringList(
+                "{snake}", "{constant}", "{camel}", "{pascal}",
+                "{kebab}", "{chain}", "{path}", "{space}"
+        );
+        List<String> rangeList = pluginUI.getContext().getStringList(
+                "{editor:selected_text}",
+                "{editor:full_text}"
+        );
+        return pluginUI.buildVerticalLayout()
+                // 目标命名法
+                .addHorizontalLayout().children(builder -> builder
+                        .addTextView("label1").text("{editor:case_style}")
+                        .addSpinner("style").items(styleList).selection(data).widthMatchParent().marginLeftDp(4)
+                )
+                // 文本范围
+                .addHorizontalLayout().children(builder -> builder
+                        .addTextView("label2").text("{editor:text_range}")
+                        .addSpinner("textRange").items(rangeList).selection(data).widthMatchParent().marginLeftDp(4)
+                )
+                .unifyWidth("label1", "label2")
+                // 跳过字符串
+                .addSwitchButton("skipQuoted").text("{editor:skip_quoted}").checked(data).widthMatchParent().marginTopDp(8)
+                .build();
+    }
+
+    @Nullable
+    @Override
+    public JSONObject getOptionsData(@NonNull PluginUI pluginUI, @NonNull PluginView pluginView) {
+        JSONObject data = new JSONObject();
+        data.putSelection(pluginView.requireViewById("style"));
+        data.putSelection(pluginView.requireViewById("textRange"));
+        data.putChecked(pluginView.requireViewById("skipQuoted"));
+        return data;
+    }
+
+    // 防止快速重复点击时同时执行多个任务
+    private boolean doingFunction;
+
+    @Override
+    public void doFunction(PluginUI pluginUI, TextEditor editor, @Nullable JSONObject data) {
+        if (doingFunction) {
+            return;
+        }
+        Objects.requireNonNull(data);
+        Case.Style style = STYLES[data.getInt("style")];
+        boolean fullText = data.getInt("textRange") == 1;
+        boolean skipQuoted = data.getBoolean("skipQuoted");
+
+        BufferedText text = editor.getBufferedText();
+        int cursor = editor.getSelectionStart();
+        int from, to;
+        if (fullText) {
+            from = 0;
+            to = text.length();
+        } else {
+            from = editor.getSelectionStart();
+            to = editor.getSelectionEnd();
+            if (from == to) {
+                pluginUI.showToast("{editor:no_text_selected}");
+                return;
+            }
+        }
+
+        IdentifierRewriter rewriter = new IdentifierRewriter(style, new Converter(getContext()).caseTokenizer(), skipQuoted);
+
+        new AsyncTask(getContext()) {
+            LoadingDialog loadingDialog;
+            IdentifierRenamer.Edits edits;
+
+            @Override
+            protected void beforeThread() throws Exception {
+                doingFunction = true;
+                loadingDialog = new LoadingDialog(pluginUI)
+                        .setMessage("{processing}")
+                        .showDelay(200);
+            }
+
+            @Override
+            protected void onThread() throws Exception {
+                // 只收集需要替换的标识符，不生成第二份文档，内存占用与替换数量成正比
+                edits = rewriter.find(text, from, to);
+            }
+
+            @Override
+            protected void afterThread() throws Exception {
+                int count = edits.count();
+                if (count == 0) {
+                    pluginUI.showToast("{editor:case_unchanged}");
+                    return;
+                }
+                // 从后往前替换，前面的位置不受影响；同时计算光标与选区的新位置
+                int newCursor = cursor, newTo = to;
+                editor.startLargeBatchEditingMode();
+                try {
+                    for (int i = count - 1; i >= 0; i--) {
+                        int s = edits.start(i), e = edits.end(i);
+                        String replacement = edits.replacement(i);
+                        editor.replaceText(s, e, replacement);
+                        int delta = replacement.length() - (e - s);
+                        if (e <= cursor) newCursor += delta;
+                        newTo += delta;
+                    }
+                } finally {
+                    editor.finishLargeBatchEditingMode();
+                }
+                if (fullText) {
+                    editor.setSelection(newCursor);
+                } else {
+                    editor.setSelection(from, newTo);
+                }
+                editor.pushSelectionToUndoBuffer();
+                editor.requestFocus();
+                editor.ensureSelectionVisible();
+                pluginUI.showToast("{editor:case_result}", count);
+            }
+
+            @Override
+            protected void onException(Exception e) {
+                pluginUI.showErrorMessage(e);
+            }
+
+            @Override
+            protected void onFinally() {
+                doingFunction = false;
+                if (loadingDialog != null) {
+                    loadingDialog.dismiss();
+                }
+            }
+        }.start();
+    }
+}
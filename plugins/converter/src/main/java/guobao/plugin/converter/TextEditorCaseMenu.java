@@ -0,0 +1,77 @@
+package guobao.plugin.converter;
+
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+import bin.mt.plugin.api.PluginContext;
+import bin.mt.plugin.api.drawable.MaterialIcons;
+import bin.mt.plugin.api.editor.BaseTextEditorFloatingMenu;
+import bin.mt.plugin.api.editor.TextEditor;
+import bin.mt.plugin.api.ui.PluginUI;
+
+/**
+ * 预览选中文本的所有命名法，点击后将选中文本转换为对应风格。
+ */
+public class TextEditorCaseMenu extends BaseTextEditorFloatingMenu {
+
+    /** 预览最多截取的字符数，选中大段文本时预览仍能立即显示 */
+    private static final int PREVIEW_LIMIT = 256;
+
+    private static final Case.Style[] STYLES = Case.Style.values();
+
+    @NonNull
+    @Override
+    public String name() {
+        return "{editor:case_preview}";
+    }
+
+    @NonNull
+    @Override
+    public Drawable icon() {
+        return MaterialIcons.get("text_format");
+    }
+
+    @Override
+    public boolean checkVisible(@NonNull TextEditor editor) {
+        return editor.hasTextSelected();
+    }
+
+    @Override
+    public void onMenuClick(@NonNull PluginUI pluginUI, @NonNull TextEditor editor) {
+        PluginContext context = getContext();
+        int from = editor.getSelectionStart();
+        int to = editor.getSelectionEnd();
+        Case.TokenizerConfig cfg = new Converter(context).caseTokenizer();
+
+        // 只预览开头的一段，避免截断代理对
+        boolean truncated = to - from > PREVIEW_LIMIT;
+        int previewEnd = from + PREVIEW_LIMIT;
+        if (truncated && Character.isHighSurrogate(editor.getBufferedText().charAt(previewEnd - 1))) previewEnd--;
+        String preview = editor.subText(from, truncated ? previewEnd : to);
+
+        String[] results = Case.convertEach(preview, cfg, STYLES);
+        // 标记选中文本当前的风格
+        Case.Style current = truncated ? null : Case.detectStyle(preview);
+        CharSequence[] items = new CharSequence[STYLES.length];
+        for (int i = 0; i < STYLES.length; i++) {
+            String label = context.getString(STYLES[i].name().toLowerCase(Locale.ROOT));
+            if (STYLES[i] == current) label = context.getString("{editor:case_current}", label);
+            items[i] = label + "\n" + results[i] + (truncated ? "…" : "");
+        }
+
+        pluginUI.buildDialog()
+                .setTitle("{editor:case_preview}")
+                .setItems(items, (dialog, which) -> {
+                    String converted = truncated
+                            ? Case.convert(editor.subText(from, to), STYLES[which], cfg)
+                            : results[which];
+                    editor.replaceText(from, to, converted);
+                    editor.setSelection(from, from + converted.length());
+                })
+                .setNegativeButton("{editor:cancel}", null)
+                .show();
+    }
+}
@@ -36,15 +36,8 @@ public class TextEditorFloatingMenu extends BaseTextEditorFloatingMenu {
     public void onMenuClick(@NonNull PluginUI pluginUI, @NonNull TextEditor editor) {
         int from = editor.getSelectionStart();
         int to = editor.getSelectionEnd();
-        char[] charArray = editor.subText(from, to).toCharArray();
-        for (int i = 0; i < charArray.length; i++) {
-            char c = charArray[i];
-            if (Character.isLowerCase(c)) {
-                charArray[i] = Character.toUpperCase(c);
-            } else {
-                charArray[i] = Character.toLowerCase(c);
-            }
-        }
-        editor.replaceText(from, to, new String(charArray));
+        // 直接读取编辑器的文本，不再复制选中内容
+        StringBuilder result = CaseMapper.swapCase(editor.getBufferedText(), from, to, new StringBuilder(to - from));
+        editor.replaceText(from, to, result);
     }
 }
@@ -0,0 +1,150 @@
+package guobao.plugin.converter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+import bin.mt.json.JSONObject;
+import bin.mt.plugin.api.editor.BaseTextEditorFunction;
+import bin.mt.plugin.api.editor.BufferedText;
+import bin.mt.plugin.api.editor.TextEditor;
+import bin.mt.plugin.api.ui.PluginUI;
+import bin.mt.plugin.api.ui.PluginView;
+import bin.mt.plugin.api.ui.dialog.LoadingDialog;
+import bin.mt.plugin.api.util.AsyncTask;
+
+/**
+ * 将选中文本中出现的标识符转换为指定命名法，并同步替换全文中的所有同名标识符。
+ */
+public class TextEditorRenameFunction extends BaseTextEditorFunction {
+
+    // 与下拉框中的选项一一对应
+    private static final Case.Style[] STYLES = {
+            Case.Style.SNAKE, Case.Style.CONSTANT, Case.Style.CAMEL, Case.Style.PASCAL,
+            Case.Style.KEBAB, Case.Style.CHAIN, Case.Style.PATH, Case.Style.SPACE
+    };
+
+    @NonNull
+    @Override
+    public String name() {
+        return "{editor:case_rename}";
+    }
+
+    @Override
+    public boolean supportEditTextView() {
+        return false;
+    }
+
+    @Override
+    public boolean supportRepeat() {
+        return false;
+    }
+
+    @Override
+    public PluginView buildOptionsView(@NonNull PluginUI pluginUI, @Nullable JSONObject data) {
+        List<String> styleList = pluginUI.getContext().getStringList(
+                "{snake}", "{constant}", "{camel}", "{pascal}",
+                "{kebab}", "{chain}", "{path}", "{space}"
+        );
+        return pluginUI.buildVerticalLayout()
+                .addTextView().text("{editor:case_rename_info}")
+                .addHorizontalLayout().marginTopDp(8).children(builder -> builder
+                        .addTextView().text("{editor:case_style}")
+                        .addSpinner("style").items(styleList).selection(data).widthMatchParent().marginLeftDp(4)
+                )
+                .build();
+    }
+
+    @Nullable
+    @Override
+    public JSONObject getOptionsData(@NonNull PluginUI pluginUI, @NonNull PluginView pluginView) {
+        JSONObject data = new JSONObject();
+        data.putSelection(pluginView.requireViewById("style"));
+        return data;
+    }
+
+    // 防止快速重复点击时同时执行多个任务
+    private boolean doingFunction;
+
+    @Override
+    public void doFunction(PluginUI pluginUI, TextEditor editor, @Nullable JSONObject data) {
+        if (doingFunction) {
+            return;
+        }
+        Objects.requireNonNull(data);
+        Case.Style style = STYLES[data.getInt("style")];
+
+        int from = editor.getSelectionStart();
+        int to = editor.getSelectionEnd();
+        if (from == to) {
+            pluginUI.showToast("{editor:no_text_selected}");
+            return;
+        }
+        BufferedText text = editor.getBufferedText();
+        IdentifierRenamer renamer = new IdentifierRenamer(style, new Converter(getContext()).caseTokenizer());
+
+        new AsyncTask(getContext()) {
+            LoadingDialog loadingDialog;
+            IdentifierRenamer.Edits edits;
+
+            @Override
+            protected void beforeThread() throws Exception {
+                doingFunction = true;
+                loadingDialog = new LoadingDialog(pluginUI)
+                        .setMessage("{processing}")
+                        .showDelay(200);
+            }
+
+            @Override
+            protected void onThread() throws Exception {
+                // 先建立重命名表，再对全文做一次扫描
+                renamer.collect(text, from, to);
+                edits = renamer.find(text, 0, text.length());
+            }
+
+            @Override
+            protected void afterThread() throws Exception {
+                int count = edits.count();
+                if (count == 0) {
+                    pluginUI.showToast("{editor:case_unchanged}");
+                    return;
+                }
+                // 从后往前替换，前面的位置不受影响；同时计算选区的新位置
+                int newFrom = from, newTo = to;
+                editor.startLargeBatchEditingMode();
+                try {
+                    for (int i = count - 1; i >= 0; i--) {
+                        int s = edits.start(i), e = edits.end(i);
+                        String replacement = edits.replacement(i);
+                        editor.replaceText(s, e, replacement);
+                        int delta = replacement.length() - (e - s);
+                        if (e <= from) newFrom += delta;
+                        if (e <= to) newTo += delta;
+                    }
+                } finally {
+                    editor.finishLargeBatchEditingMode();
+                }
+                editor.setSelection(newFrom, newTo);
+                editor.pushSelectionToUndoBuffer();
+                editor.requestFocus();
+                editor.ensureSelectionVisible();
+                pluginUI.showToast("{editor:case_rename_result}", renamer.size(), count);
+            }
+
+            @Override
+            protected void onException(Exception e) {
+                pluginUI.showErrorMessage(e);
+            }
+
+            @Override
+            protected void onFinally() {
+                doingFunction = false;
+                if (loadingDialog != null) {
+                    loadingDialog.dismiss();
+                }
+            }
+        }.start();
+    }
+}
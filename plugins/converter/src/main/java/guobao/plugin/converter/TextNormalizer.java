@@ -0,0 +1,196 @@
+package guobao.plugin.converter;
+
+import java.nio.CharBuffer;
+import java.text.Normalizer;
+
+/**
+ * Unicode 规范化与全角/半角转换
+ *
+ * <p>设计要点：
+ * <ul>
+ *   <li>字符串表中的文本绝大多数已经是规范化的，先用一遍快速检查找出可能变化的片段，只有这些片段交给 {@link Normalizer}。</li>
+ *   <li>快速检查按规范化形式选取「稳定字符」：ASCII、各形式下都不变的 Latin-1 范围、CJK 统一表意文字等。
+ *       稳定字符的组合类别为 0，不会与前一个字符组合，因此稳定字符之前的位置总是安全的分段点。</li>
+ *   <li>不稳定的字符连同它前面的一个字符（可能与后续组合符号合成）组成一个片段，
+ *       片段先经过 {@link Normalizer#isNormalized}，确实需要变化时才规范化。</li>
+ *   <li>整段文本都不需要变化时返回原字符串，纯 ASCII、纯中文的文本不分配任何对象。</li>
+ * </ul>
+ *
+ * <p>示例：
+ * <pre>{@code
+ * TextNormalizer.normalize("Cafe\\u0301", Normalizer.Form.NFC); // "Café"
+ * TextNormalizer.normalize("中文 ok", Normalizer.Form.NFC);       // 原字符串
+ * TextNormalizer.toHalfWidth("ＡＢＣ　１２３！");               // "ABC 123!"
+ * }</pre>
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {}
+
+    // 全角 ASCII 区（U+FF01 ~ U+FF5E）与对应的半角字符（U+0021 ~ U+007E）之间的差值
+    private static final int WIDTH_OFFSET = 0xFEE0;
+    private static final char IDEOGRAPHIC_SPACE = (char) 0x3000;
+
+    /**
+     * 规范化字符串。
+     *
+     * @return 规范化后的字符串；已经是规范化的文本返回原字符串，输入为 null 时返回 null
+     */
+    public static String normalize(String src, Normalizer.Form form) {
+        if (src == null) return null;
+        final int len = src.length();
+        final boolean compat = isCompat(form);
+        final char limit = stableLimit(form);
+        int from = 0;
+        while (true) {
+            int unstable = nextUnstable(src, from, len, limit, compat);
+            if (unstable < 0) return src;
+            int spanStart = unstable > from ? unstable - 1 : unstable;
+            int spanEnd = spanEnd(src, unstable, len, limit, compat);
+            if (!Normalizer.isNormalized(CharBuffer.wrap(src, spanStart, spanEnd), form)) {
+                // 找到第一个需要变化的片段，之前的文本原样复制
+                StringBuilder sb = new StringBuilder(len + 16);
+                sb.append(src, 0, spanStart);
+                normalize(src, spanStart, len, form, sb);
+                return sb.toString();
+            }
+            from = spanEnd;
+        }
+    }
+
+    /**
+     * 规范化 src 的 [start, end) 区间并追加到 out。
+     *
+     * @return out
+     */
+    public static StringBuilder normalize(CharSequence src, int start, int end, Normalizer.Form form, StringBuilder out) {
+        final boolean compat = isCompat(form);
+        final char limit = stableLimit(form);
+        int copied = start; // [copied, from) 是尚未写入的原文
+        int from = start;
+        while (true) {
+            int unstable = nextUnstable(src, from, end, limit, compat);
+            if (unstable < 0) break;
+            int spanStart = unstable > from ? unstable - 1 : unstable;
+            int spanEnd = spanEnd(src, unstable, end, limit, compat);
+            CharSequence span = CharBuffer.wrap(src, spanStart, spanEnd);
+            if (!Normalizer.isNormalized(span, form)) {
+                out.append(src, copied, spanStart);
+                out.append(Normalizer.normalize(span, form));
+                copied = spanEnd;
+            }
+            from = spanEnd;
+        }
+        out.append(src, copied, end);
+        return out;
+    }
+
+    /** NFKC、NFKD 为兼容性规范化 */
+    private static boolean isCompat(Normalizer.Form form) {
+        return form == Normalizer.Form.NFKC || form == Normalizer.Form.NFKD;
+    }
+
+    /**
+     * 小于此值的字符在该规范化形式下一定不变：
+     * NFC 中 U+0300 之前没有可分解或可组合的字符；NFD 从 U+00C0（À）开始分解；兼容性形式从 U+00A0（不换行空格）开始。
+     */
+    private static char stableLimit(Normalizer.Form form) {
+        return switch (form) {
+            case NFC -> (char) 0x300;
+            case NFD -> (char) 0xC0;
+            case NFKC, NFKD -> (char) 0xA0;
+        };
+    }
+
+    private static boolean isStable(char c, char limit, boolean compat) {
+        if (c < limit) return true;
+        // CJK 统一表意文字及扩展 A 在所有形式下都不变
+        if (c >= 0x4E00 && c <= 0x9FFF) return true;
+        if (c >= 0x3400 && c <= 0x4DBF) return true;
+        // 中文标点与全角字符只有兼容性分解
+        if (!compat) {
+            if (c >= 0x3000 && c <= 0x3029) return true;
+            if (c >= 0xFF01 && c <= 0xFF60) return true;
+        }
+        return false;
+    }
+
+    private static int nextUnstable(CharSequence src, int from, int end, char limit, boolean compat) {
+        for (int i = from; i < end; i++) {
+            if (!isStable(src.charAt(i), limit, compat)) return i;
+        }
+        return -1;
+    }
+
+    private static int spanEnd(CharSequence src, int from, int end, char limit, boolean compat) {
+        int i = from;
+        while (i < end && !isStable(src.charAt(i), limit, compat)) i++;
+        return i;
+    }
+
+    // ===================== 全角/半角 =====================
+
+    /**
+     * 把全角 ASCII 字符（！～ＺＡ～ｚ等）与全角空格转为半角。
+     *
+     * @return 转换后的字符串；没有全角字符时返回原字符串，输入为 null 时返回 null
+     */
+    public static String toHalfWidth(String src) {
+        if (src == null) return null;
+        final int len = src.length();
+        int first = 0;
+        while (first < len && !isFullWidth(src.charAt(first))) first++;
+        if (first == len) return src;
+        char[] chars = src.toCharArray();
+        for (int i = first; i < len; i++) chars[i] = toHalfWidth(chars[i]);
+        return new String(chars);
+    }
+
+    /**
+     * 把可见 ASCII 字符与空格转为全角。
+     *
+     * @return 转换后的字符串；没有可转换的字符时返回原字符串，输入为 null 时返回 null
+     */
+    public static String toFullWidth(String src) {
+        if (src == null) return null;
+        final int len = src.length();
+        int first = 0;
+        while (first < len && !isHalfWidth(src.charAt(first))) first++;
+        if (first == len) return src;
+        char[] chars = src.toCharArray();
+        for (int i = first; i < len; i++) chars[i] = toFullWidth(chars[i]);
+        return new String(chars);
+    }
+
+    /** 把 src 的 [start, end) 区间转为半角并追加到 out */
+    public static StringBuilder toHalfWidth(CharSequence src, int start, int end, StringBuilder out) {
+        out.ensureCapacity(out.length() + (end - start));
+        for (int i = start; i < end; i++) out.append(toHalfWidth(src.charAt(i)));
+        return out;
+    }
+
+    /** 把 src 的 [start, end) 区间转为全角并追加到 out */
+    public static StringBuilder toFullWidth(CharSequence src, int start, int end, StringBuilder out) {
+        out.ensureCapacity(out.length() + (end - start));
+        for (int i = start; i < end; i++) out.append(toFullWidth(src.charAt(i)));
+        return out;
+    }
+
+    private static boolean isFullWidth(char c) {
+        return (c >= 0xFF01 && c <= 0xFF5E) || c == IDEOGRAPHIC_SPACE;
+    }
+
+    private static boolean isHalfWidth(char c) {
+        return c >= ' ' && c <= '~';
+    }
+
+    private static char toHalfWidth(char c) {
+        if (c >= 0xFF01 && c <= 0xFF5E) return (char) (c - WIDTH_OFFSET);
+        return c == IDEOGRAPHIC_SPACE ? ' ' : c;
+    }
+
+    private static char toFullWidth(char c) {
+        if (c > ' ' && c <= '~') return (char) (c + WIDTH_OFFSET);
+        return c == ' ' ? IDEOGRAPHIC_SPACE : c;
+    }
+}
@@ -1,24 +1,28 @@
 package guobao.plugin.converter;
 
+import android.content.SharedPreferences;
+
 import androidx.annotation.NonNull;
 
 import bin.mt.plugin.api.LocalString;
 import bin.mt.plugin.api.PluginContext;
 import bin.mt.plugin.api.translation.BaseTranslationEngine;
 
+import guobao.plugin.converter.tool.ConversionTools;
+
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
 
 public class TranslationEngine extends BaseTranslationEngine {
 
-    private PluginContext context;
+    // 批量翻译时连接多个词条的分隔符，插件 API 没有提供读取的方法，按换行处理；
+    // 只有能逐行转换的工具按分隔符拆分，其余工具整段转换，见 Converter#convertBatch
+    private static final String BATCH_SEPARATOR = "\n";
 
-    private final List<String> tools = Arrays.asList("case", "md_ubb", "unicode", "zshh");
-
-    private final List<String> COMMON = Arrays.asList("decode", "encode");
-    private final List<String> MD_UBB = Arrays.asList("ubb", "html", "markdown");
-    private final List<String> CASE = Arrays.asList("constant", "reverse", "snake", "camel", "kebab", "space", "chain", "path", "upper", "lower"/*, "pascal"*/);
+    private PluginContext context;
+    // 整个翻译过程共用一个 Converter，避免每个词条都重新创建；第一次翻译时创建，onFinish 时释放，
+    // 其中的转换结果缓存与统计也只在这段时间内有效
+    private Converter converter;
 
     public TranslationEngine() {
         super(new ConfigurationBuilder()
@@ -26,6 +30,8 @@ public class TranslationEngine extends BaseTranslationEngine {
         .setForceNotToSkipTranslated(true)
         // 目标语言可变
         .setTargetLanguageMutable(true)
+        // 一次调用转换多个词条
+        .setAllowBatchTranslationBySeparator(true)
         .build());
     }
 
@@ -42,33 +48,50 @@ public class TranslationEngine extends BaseTranslationEngine {
     @NonNull
     @Override
     public List<String> loadSourceLanguages() {
-        return tools;
+        // 工具列表与目标列表来自注册表，不会创建任何工具实例
+        return ConversionTools.ids();
     }
 
     @NonNull
     @Override
     public List<String> loadTargetLanguages(String sourceLanguage) {
-        switch (sourceLanguage) {
-            case "case": return CASE;
-            case "md_ubb": return MD_UBB;
-            case "zshh":
-                context.showToastL(context.getString("warning"));
-                return COMMON;
-            default:
-                return COMMON;
+        ConversionTools.Registration tool = ConversionTools.registration(sourceLanguage);
+        if (tool != null && tool.warning != null) {
+            context.showToastL(context.getString(tool.warning));
         }
+        return ConversionTools.targets(sourceLanguage, context);
     }
 
     @NonNull
     @Override
     public String getLanguageDisplayName(String language) {
+        // 流水线的目标是用户填写的描述，直接显示
+        if (language.indexOf(':') > 0) return language;
         return context.getString(language);
     }
 
     @NonNull
     @Override
     public String translate(String text, String tool, String to) throws IOException {
-        Converter cvt = new Converter(context);
-        return cvt.convert(text, tool, to);
+        Converter cvt = converter;
+        if (cvt == null) {
+            cvt = converter = new Converter(context);
+        }
+        return cvt.convertBatch(text, tool, to, BATCH_SEPARATOR);
+    }
+
+    @Override
+    public void onFinish() {
+        Converter cvt = converter;
+        converter = null;
+        if (cvt == null) return;
+        ConversionStats stats = cvt.stats();
+        if (stats.isEmpty()) return;
+        context.log(stats.summary() + "\n" + cvt.cache());
+        // 累加到设置中保存的统计，供设置页显示，每次翻译只写一次
+        SharedPreferences prefs = context.getPreferences();
+        ConversionStats total = ConversionStats.decode(prefs.getString(ConversionStats.KEY_STATS, null));
+        total.merge(stats);
+        prefs.edit().putString(ConversionStats.KEY_STATS, total.encode()).apply();
     }
 }
\ No newline at end of file
@@ -0,0 +1,268 @@
+package guobao.plugin.converter;
+
+import java.util.Arrays;
+
+/**
+ * Unicode 转义序列编解码
+ *
+ * <p>设计要点：
+ * <ul>
+ *   <li>十六进制数字查表输出，不使用 String.format，也不为每个字符创建字符串。</li>
+ *   <li>先扫描一遍计算结果的精确长度，再直接写入一个 char[]；不需要转义时返回原字符串，不分配任何对象。</li>
+ *   <li>默认输出与旧实现一致：ASCII 以外的每个 UTF-16 字符转为小写的 \\uXXXX，增补平面字符输出为代理对。</li>
+ *   <li>解码为手写的单遍扫描，结果写入一个 StringBuilder；格式不完整的转义序列原样保留。</li>
+ * </ul>
+ *
+ * <p>示例：
+ * <pre>{@code
+ * UnicodeEscape.encode("中文 ok", 0);                    // "\\u4e2d\\u6587 ok"
+ * UnicodeEscape.encode("é😀", UnicodeEscape.UPPER_CASE); // "\\u00E9\\uD83D\\uDE00"
+ * UnicodeEscape.encode("é😀", UnicodeEscape.KEEP_LATIN1 | UnicodeEscape.SUPPLEMENTARY_LONG); // "é\\U0001f600"
+ * }</pre>
+ */
+public final class UnicodeEscape {
+
+    private UnicodeEscape() {}
+
+    /** 十六进制数字使用大写 */
+    public static final int UPPER_CASE = 1;
+    /** 不转义 Latin-1 字符（U+0080 ~ U+00FF） */
+    public static final int KEEP_LATIN1 = 1 << 1;
+    /** 增补平面字符输出为一个 8 位的 \\UXXXXXXXX，而不是两个代理字符 */
+    public static final int SUPPLEMENTARY_LONG = 1 << 2;
+
+    /** 解码时同时识别 \\UXXXXXXXX（8 位十六进制） */
+    public static final int DECODE_LONG = 1 << 3;
+    /** 解码时同时识别 \\xHH（2 位十六进制，Latin-1 字符） */
+    public static final int DECODE_HEX = 1 << 4;
+    /** 解码时同时识别 HTML 数字字符引用 &#xHHHH; 与 &#DDDD; */
+    public static final int DECODE_HTML = 1 << 5;
+
+    private static final char[] HEX_LOWER = "0123456789abcdef".toCharArray();
+    private static final char[] HEX_UPPER = "0123456789ABCDEF".toCharArray();
+    // ASCII 字符对应的十六进制数值，不是十六进制数字时为 -1
+    private static final byte[] HEX_VALUE = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUE, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUE[HEX_LOWER[i]] = (byte) i;
+            HEX_VALUE[HEX_UPPER[i]] = (byte) i;
+        }
+    }
+
+    /**
+     * 编码字符串。
+     *
+     * @param src   输入字符串
+     * @param flags {@link #UPPER_CASE}、{@link #KEEP_LATIN1}、{@link #SUPPLEMENTARY_LONG} 的组合
+     * @return 编码后的字符串；没有需要转义的字符时返回原字符串，输入为 null 时返回 null
+     */
+    public static String encode(String src, int flags) {
+        if (src == null) return null;
+        final int len = src.length();
+        final char limit = (flags & KEEP_LATIN1) != 0 ? (char) 0x100 : (char) 0x80;
+        int first = 0;
+        while (first < len && src.charAt(first) < limit) first++;
+        if (first == len) return src;
+
+        char[] out = new char[first + encodedLength(src, first, len, flags)];
+        src.getChars(0, first, out, 0);
+        write(src, first, len, flags, out, first);
+        return new String(out);
+    }
+
+    /**
+     * 编码 src 的 [start, end) 区间并追加到 out。
+     *
+     * @return out
+     */
+    public static StringBuilder encode(CharSequence src, int start, int end, int flags, StringBuilder out) {
+        final char limit = (flags & KEEP_LATIN1) != 0 ? (char) 0x100 : (char) 0x80;
+        final char[] hex = (flags & UPPER_CASE) != 0 ? HEX_UPPER : HEX_LOWER;
+        final boolean longForm = (flags & SUPPLEMENTARY_LONG) != 0;
+        out.ensureCapacity(out.length() + (end - start));
+        int i = start;
+        while (i < end) {
+            char c = src.charAt(i++);
+            if (c < limit) {
+                out.append(c);
+            } else if (longForm && Character.isHighSurrogate(c) && i < end && Character.isLowSurrogate(src.charAt(i))) {
+                int cp = Character.toCodePoint(c, src.charAt(i++));
+                out.append('\\').append('U');
+                for (int shift = 28; shift >= 0; shift -= 4) out.append(hex[(cp >>> shift) & 0xF]);
+            } else {
+                out.append('\\').append('u')
+                        .append(hex[c >>> 12]).append(hex[(c >>> 8) & 0xF])
+                        .append(hex[(c >>> 4) & 0xF]).append(hex[c & 0xF]);
+            }
+        }
+        return out;
+    }
+
+    /** [start, end) 区间编码后的长度 */
+    private static int encodedLength(CharSequence src, int start, int end, int flags) {
+        final char limit = (flags & KEEP_LATIN1) != 0 ? (char) 0x100 : (char) 0x80;
+        final boolean longForm = (flags & SUPPLEMENTARY_LONG) != 0;
+        int n = 0;
+        int i = start;
+        while (i < end) {
+            char c = src.charAt(i++);
+            if (c < limit) {
+                n++;
+            } else if (longForm && Character.isHighSurrogate(c) && i < end && Character.isLowSurrogate(src.charAt(i))) {
+                i++;
+                n += 10;
+            } else {
+                n += 6;
+            }
+        }
+        return n;
+    }
+
+    /** 与 {@link #encode(CharSequence, int, int, int, StringBuilder)} 相同，写入长度已经算好的数组 */
+    private static void write(CharSequence src, int start, int end, int flags, char[] out, int pos) {
+        final char limit = (flags & KEEP_LATIN1) != 0 ? (char) 0x100 : (char) 0x80;
+        final char[] hex = (flags & UPPER_CASE) != 0 ? HEX_UPPER : HEX_LOWER;
+        final boolean longForm = (flags & SUPPLEMENTARY_LONG) != 0;
+        int i = start;
+        while (i < end) {
+            char c = src.charAt(i++);
+            if (c < limit) {
+                out[pos++] = c;
+            } else if (longForm && Character.isHighSurrogate(c) && i < end && Character.isLowSurrogate(src.charAt(i))) {
+                int cp = Character.toCodePoint(c, src.charAt(i++));
+                out[pos++] = '\\';
+                out[pos++] = 'U';
+                for (int shift = 28; shift >= 0; shift -= 4) out[pos++] = hex[(cp >>> shift) & 0xF];
+            } else {
+                out[pos++] = '\\';
+                out[pos++] = 'u';
+                out[pos++] = hex[c >>> 12];
+                out[pos++] = hex[(c >>> 8) & 0xF];
+                out[pos++] = hex[(c >>> 4) & 0xF];
+                out[pos++] = hex[c & 0xF];
+            }
+        }
+    }
+
+    // ===================== 解码 =====================
+
+    /**
+     * 解码字符串中的转义序列。
+     *
+     * <p>始终识别 \\uXXXX；连续的两个 \\uXXXX 组成代理对时自然还原为一个增补平面字符。
+     * 其余格式由 flags 开启，得到的码点超出 Unicode 范围时视为格式错误。
+     *
+     * @param src   输入字符串
+     * @param flags {@link #DECODE_LONG}、{@link #DECODE_HEX}、{@link #DECODE_HTML} 的组合
+     * @return 解码后的字符串；没有可解码的序列时返回原字符串，输入为 null 时返回 null
+     */
+    public static String decode(String src, int flags) {
+        if (src == null) return null;
+        final int len = src.length();
+        final boolean html = (flags & DECODE_HTML) != 0;
+        int first = 0;
+        while (first < len) {
+            char c = src.charAt(first);
+            if (c == '\\' || (html && c == '&')) break;
+            first++;
+        }
+        if (first == len) return src;
+        StringBuilder sb = new StringBuilder(len);
+        sb.append(src, 0, first);
+        decode(src, first, len, flags, sb);
+        // 每解码一个序列长度都会变短，长度不变说明没有可解码的序列
+        return sb.length() == len ? src : sb.toString();
+    }
+
+    /**
+     * 解码 src 的 [start, end) 区间并追加到 out。
+     *
+     * @return out
+     */
+    public static StringBuilder decode(CharSequence src, int start, int end, int flags, StringBuilder out) {
+        final boolean html = (flags & DECODE_HTML) != 0;
+        int i = start;
+        int copied = start; // [copied, i) 是尚未写入的原文
+        while (i < end) {
+            char c = src.charAt(i);
+            int next;
+            if (c == '\\') {
+                next = i + 1 < end ? decodeBackslash(src, i, end, flags, out, copied) : -1;
+            } else if (c == '&' && html) {
+                next = decodeReference(src, i, end, out, copied);
+            } else {
+                i++;
+                continue;
+            }
+            if (next < 0) {
+                i++;
+            } else {
+                i = copied = next;
+            }
+        }
+        out.append(src, copied, end);
+        return out;
+    }
+
+    /** 解码 i 处以反斜杠开始的序列，成功时先写入 [copied, i) 的原文再写入字符，返回序列之后的位置；格式错误时返回 -1 */
+    private static int decodeBackslash(CharSequence src, int i, int end, int flags, StringBuilder out, int copied) {
+        int digits;
+        switch (src.charAt(i + 1)) {
+            case 'u' -> digits = 4;
+            case 'U' -> {
+                if ((flags & DECODE_LONG) == 0) return -1;
+                digits = 8;
+            }
+            case 'x' -> {
+                if ((flags & DECODE_HEX) == 0) return -1;
+                digits = 2;
+            }
+            default -> { return -1; }
+        }
+        int from = i + 2;
+        if (end - from < digits) return -1;
+        int cp = parseHex(src, from, from + digits);
+        if (cp < 0 || cp > Character.MAX_CODE_POINT) return -1;
+        out.append(src, copied, i);
+        if (digits == 4) out.append((char) cp);
+        else out.appendCodePoint(cp);
+        return from + digits;
+    }
+
+    /** 解码 i 处的 &#xHHHH; 或 &#DDDD;，规则同 {@link #decodeBackslash} */
+    private static int decodeReference(CharSequence src, int i, int end, StringBuilder out, int copied) {
+        int p = i + 1;
+        if (p >= end || src.charAt(p) != '#') return -1;
+        p++;
+        boolean hex = p < end && (src.charAt(p) == 'x' || src.charAt(p) == 'X');
+        if (hex) p++;
+        int from = p;
+        int cp = 0;
+        // 最多 8 位，超出 Unicode 范围的值在结束时统一判断
+        while (p < end && p - from < 8) {
+            char c = src.charAt(p);
+            int v = c < 128 ? HEX_VALUE[c] : -1;
+            if (v < 0 || (!hex && v > 9)) break;
+            cp = hex ? (cp << 4) | v : cp * 10 + v;
+            p++;
+        }
+        if (p == from || p >= end || src.charAt(p) != ';' || cp > Character.MAX_CODE_POINT) return -1;
+        out.append(src, copied, i);
+        out.appendCodePoint(cp);
+        return p + 1;
+    }
+
+    /** 解析 [from, to) 的十六进制数字（最多 8 位），包含非十六进制字符时返回 -1 */
+    private static int parseHex(CharSequence src, int from, int to) {
+        long v = 0;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            int d = c < 128 ? HEX_VALUE[c] : -1;
+            if (d < 0) return -1;
+            v = (v << 4) | d;
+        }
+        return v > Integer.MAX_VALUE ? -1 : (int) v;
+    }
+}
@@ -0,0 +1,859 @@
+package guobao.plugin.converter;
+
+/**
+ * {@link Case} 的 BMP 字符类别表，由 UnicodeTableGenerator 生成，请勿手动修改。
+ *
+ * <p>数据来自 JDK 17 的 Character，1024 个块，193 个不同的块。
+ */
+final class UnicodeTableData {
+
+    private UnicodeTableData() {}
+
+    static final int BLOCK_SHIFT = 6;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    /** 生成时使用的 JDK 版本，表中的数据即该版本 Character 的 Unicode 数据 */
+    static final int JDK_VERSION = 17;
+
+    /** 每个块在 DATA 中的起始位置 */
+    static final String INDEX =
+            "\u0000\u0040\u0080\u00c0\u0100\u0140\u0180\u01c0\u0200\u0240\u0280\u02c0\u0300\u0340\u0380\u03c0"
+            + "\u0400\u0440\u0480\u04c0\u0500\u0540\u0580\u05c0\u0600\u0640\u0680\u06c0\u0700\u0740\u0780\u07c0"
+            + "\u0800\u0840\u0880\u08c0\u0900\u0940\u0980\u09c0\u0a00\u0a40\u0a80\u0ac0\u0b00\u0b40\u0b80\u0bc0"
+            + "\u0c00\u0c40\u0c80\u0cc0\u0d00\u0d40\u0d80\u0dc0\u0e00\u0e40\u0e80\u0ec0\u0f00\u0f40\u0f80\u0fc0"
+            + "\u1000\u1040\u1080\u10c0\u1100\u1100\u1100\u1100\u0680\u1140\u1180\u11c0\u1200\u1240\u1280\u12c0"
+            + "\u1300\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u1340\u1380\u13c0\u1400\u1440\u1480\u14c0"
+            + "\u1500\u1540\u1580\u15c0\u1600\u1640\u1680\u16c0\u1700\u1740\u1780\u0300\u17c0\u1800\u1840\u1880"
+            + "\u18c0\u1900\u1940\u1980\u19c0\u19c0\u19c0\u0300\u1a00\u1a00\u1a40\u1a00\u1a80\u1ac0\u1b00\u1b40"
+            + "\u0300\u1b80\u1bc0\u0300\u1c00\u1c40\u1c80\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0\u1d00\u1cc0\u1cc0\u1cc0"
+            + "\u1d40\u1d80\u1dc0\u1e00\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0\u1e40\u1e80\u1ec0"
+            + "\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0\u1f00\u1f40\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0\u1f80\u1fc0\u1cc0"
+            + "\u2000\u2040\u1a00\u2080\u20c0\u2100\u2140\u2180\u21c0\u2200\u2240\u2280\u1cc0\u1cc0\u1cc0\u22c0"
+            + "\u2300\u2340\u2380\u23c0\u2400\u1100\u2440\u2480\u24c0\u2500\u2540\u1cc0\u1cc0\u1cc0\u1cc0\u1cc0"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u1cc0\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580"
+            + "\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u2580\u25c0"
+            + "\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680\u0680"
+            + "\u0680\u0680\u2600\u2640\u0680\u0680\u0680\u0680\u2680\u26c0\u2700\u1880\u2740\u2780\u27c0\u2800"
+            + "\u2840\u1480\u2880\u28c0\u2900\u2940\u2980\u29c0\u2a00\u2a40\u2a80\u2ac0\u2b00\u2b40\u19c0\u2b80"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100"
+            + "\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u1100\u2bc0\u2c00"
+            + "\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300"
+            + "\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300"
+            + "\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300"
+            + "\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300"
+            + "\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300"
+            + "\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300"
+            + "\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300"
+            + "\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300\u0300"
+            + "\u0300\u0300\u0300\u0300\u2580\u2580\u2580\u2580\u2580\u2c40\u2580\u2c80\u2cc0\u2d00\u2d40\u2d80"
+            + "\u0680\u0680\u0680\u0680\u2dc0\u2e00\u2e40\u2e80\u0300\u2ec0\u0680\u2f00\u2f40\u2f80\u2fc0\u3000";
+
+    /** 各个不同的块，每个字符为类别位与扩展类别的组合 */
+    static final String DATA =
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0020\u0020\u0020\u0000"
+            + "\u0000\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0000\u0000\u0000\u0020\u0000"
+            + "\u0020\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0020\u0000\u0020\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0000\u0020\u0020\u0055\u0000\u0020\u0000\u0020\u0020"
+            + "\u0020\u0020\u0000\u0000\u0020\u0055\u0000\u0000\u0020\u0000\u0055\u0000\u0000\u0000\u0000\u0000"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0020\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0020\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053"
+            + "\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0053\u0055\u0053\u0055\u0053\u0055\u0055"
+            + "\u0055\u0053\u0053\u0055\u0053\u0055\u0053\u0053\u0055\u0053\u0053\u0053\u0055\u0055\u0053\u0053"
+            + "\u0053\u0053\u0055\u0053\u0053\u0055\u0053\u0053\u0053\u0055\u0055\u0055\u0053\u0053\u0055\u0053"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0053\u0055\u0053\u0055\u0055\u0053\u0055\u0053\u0053"
+            + "\u0055\u0053\u0053\u0053\u0055\u0053\u0055\u0053\u0053\u0055\u0055\u0051\u0053\u0055\u0055\u0055"
+            + "\u0051\u0051\u0051\u0051\u0053\u0051\u0055\u0053\u0051\u0055\u0053\u0051\u0055\u0053\u0055\u0053"
+            + "\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0055\u0053\u0051\u0055\u0053\u0055\u0053\u0053\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053\u0053\u0055\u0053\u0053\u0055"
+            + "\u0055\u0053\u0055\u0053\u0053\u0053\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0051\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0055\u0055\u0020\u0020\u0020\u0020\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0055\u0055\u0055\u0055\u0055\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0051\u0020\u0051\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0004\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0053\u0055\u0053\u0055\u0051\u0020\u0053\u0055\u0000\u0000\u0055\u0055\u0055\u0055\u0000\u0053"
+            + "\u0000\u0000\u0000\u0000\u0020\u0020\u0053\u0000\u0053\u0053\u0053\u0000\u0053\u0000\u0053\u0053"
+            + "\u0055\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0000\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053"
+            + "\u0055\u0055\u0053\u0053\u0053\u0055\u0055\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0055\u0055\u0055\u0055\u0053\u0055\u0020\u0053\u0055\u0053\u0053\u0055\u0055\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0000\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0000\u0000\u0051\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0000\u0000\u0000\u0020\u0020\u0020"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0051"
+            + "\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0000\u0000\u0020\u0000\u0000\u0020\u0020"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0051\u0051"
+            + "\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0000\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0000\u0000\u0020\u0000\u0000\u0000\u0000\u0051\u0051"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0051\u0051\u0051\u0020\u0020\u0051"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0051\u0051\u0020\u0000\u0000\u0000\u0051\u0000\u0000\u0000\u0020\u0020"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0051\u0000\u0000\u0000\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0051"
+            + "\u0051\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0051\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0000\u0051"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0051\u0051\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0051\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0051"
+            + "\u0051\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0000\u0051\u0051\u0000\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0000\u0051\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0000\u0000\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051"
+            + "\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0000\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0051"
+            + "\u0051\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0000\u0051"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0020\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0051\u0000\u0051\u0000\u0051\u0051"
+            + "\u0000\u0000\u0000\u0051\u0051\u0000\u0000\u0000\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020"
+            + "\u0051\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0000"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0000\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0051\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0020"
+            + "\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0051\u0051\u0000\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0000\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0051\u0051\u0051\u0051"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0020\u0000\u0020\u0020\u0020\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0020\u0000\u0020\u0000\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0020\u0020"
+            + "\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0000\u0000"
+            + "\u0000\u0051\u0000\u0000\u0000\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051"
+            + "\u0051\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0020\u0020"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0000\u0053\u0000\u0000\u0000\u0000\u0000\u0053\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0051\u0055\u0055\u0055"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0000\u0051\u0051\u0051\u0051\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0051\u0051\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000"
+            + "\u0051\u0000\u0051\u0051\u0051\u0051\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0051\u0051\u0051\u0051\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0000\u0000\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0000"
+            + "\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0020\u0000\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051"
+            + "\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0000\u0000\u0000\u0020\u0051\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0000\u0000\u0000\u0000\u0000\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0051\u0051\u0051"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0000\u0000\u0053\u0053\u0053"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0000\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0000\u0000\u0000\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0000\u0053\u0053\u0053\u0053\u0053\u0053\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0000\u0053\u0053\u0053\u0053\u0053\u0053\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0053\u0000\u0053\u0000\u0053\u0000\u0053"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0055\u0055\u0055\u0055\u0055\u0000\u0055\u0055\u0053\u0053\u0053\u0053\u0051\u0020\u0055\u0020"
+            + "\u0020\u0020\u0055\u0055\u0055\u0000\u0055\u0055\u0053\u0053\u0053\u0053\u0051\u0020\u0020\u0020"
+            + "\u0055\u0055\u0055\u0055\u0000\u0000\u0055\u0055\u0053\u0053\u0053\u0053\u0000\u0020\u0020\u0020"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053\u0053\u0053\u0053\u0053\u0020\u0020\u0020"
+            + "\u0000\u0000\u0055\u0055\u0055\u0000\u0055\u0055\u0053\u0053\u0053\u0053\u0051\u0020\u0020\u0000"
+            + "\u0000\u0000\u0000\u0000\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0055\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0000\u0000\u0055"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0000\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0053\u0020\u0020\u0020\u0020\u0053\u0020\u0020\u0055\u0053\u0053\u0053\u0055\u0055"
+            + "\u0053\u0053\u0053\u0055\u0020\u0053\u0020\u0020\u0020\u0053\u0053\u0053\u0053\u0053\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0053\u0020\u0053\u0020\u0053\u0020\u0053\u0053\u0053\u0053\u0020\u0055"
+            + "\u0053\u0053\u0053\u0053\u0055\u0051\u0051\u0051\u0051\u0055\u0020\u0020\u0055\u0055\u0053\u0053"
+            + "\u0020\u0020\u0020\u0020\u0020\u0053\u0055\u0055\u0055\u0055\u0020\u0020\u0020\u0020\u0055\u0020"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002"
+            + "\u0004\u0004\u0004\u0004\u0004\u0004\u0004\u0004\u0004\u0004\u0004\u0004\u0004\u0004\u0004\u0004"
+            + "\u0000\u0000\u0000\u0053\u0055\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0000\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\"\"\"\"\"\"\"\"\"\""
+            + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+            + "\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024"
+            + "\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0024\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000"
+            + "\u0053\u0055\u0053\u0053\u0053\u0055\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0053\u0053"
+            + "\u0053\u0055\u0053\u0055\u0055\u0053\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053\u0053"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0055\u0020\u0020\u0020\u0020\u0020\u0020\u0053\u0055\u0053\u0055\u0000"
+            + "\u0000\u0000\u0053\u0055\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0055\u0000\u0000\u0000\u0000\u0000\u0055\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0020\u0091\u0091\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0051\u0051\u0051\u0051\u0051\u0020\u0020\u0000\u0000\u0000\u0051\u0051\u0000\u0020\u0020"
+            + "\u0000\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u0000\u0000\u0000\u0000\u0020\u0020\u00d1\u00d1\u00d1"
+            + "\u0000\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u0000\u00d1\u00d1\u00d1\u00d1"
+            + "\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0000\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0000"
+            + "\u0020\u0020\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0051\u0051\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0051\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0055\u0055\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0020\u0020\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0055\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0053\u0055\u0053\u0055\u0053\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0051\u0020\u0020\u0053\u0055\u0053\u0055\u0051"
+            + "\u0053\u0055\u0053\u0055\u0055\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0053\u0053\u0053\u0053\u0055"
+            + "\u0053\u0053\u0053\u0053\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055\u0053\u0055"
+            + "\u0000\u0000\u0053\u0055\u0053\u0053\u0053\u0053\u0055\u0053\u0055\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0053\u0055\u0051\u0055\u0055\u0055\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0000\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0051\u0000\u0051\u0051\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0051\u0051\u0051\u0051\u0051\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0020\u0020\u0020\u0051\u0000\u0000\u0000\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0000\u0051\u0000\u0000\u0000\u0051\u0051\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0000\u0000"
+            + "\u0051\u0000\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0051\u0051\u0051\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0000"
+            + "\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0020\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0051\u0020\u0020\u0000\u0000\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0000\u0000\u0000\u0000\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0000\u0000\u0000\u0000"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0000\u0000"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091"
+            + "\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0091\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0055\u0055\u0055\u0055\u0055\u0000\u0000\u0000\u0000\u0000\u0051\u0000\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0020\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0000"
+            + "\u0051\u0051\u0000\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0000\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0020\u0020\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0020\u0000\u0020\u0020\u0020\u0000\u0000\u0020\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0051\u0051\u0051\u0051\u0051\u0000\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051"
+            + "\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0051\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0000\u0000\u0000\u0000"
+            + "\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0009\u0000\u0000\u0020\u0020\u0020\u0000"
+            + "\u0000\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053"
+            + "\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0053\u0000\u0000\u0000\u0020\u0000"
+            + "\u0020\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055"
+            + "\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0055\u0000\u0020\u0000\u0020\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1\u00d1"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0111\u0000"
+            + "\u0000\u0000\u0111\u0111\u0111\u0111\u0111\u0111\u0000\u0000\u0111\u0111\u0111\u0111\u0111\u0111"
+            + "\u0000\u0000\u0111\u0111\u0111\u0111\u0111\u0111\u0000\u0000\u0111\u0111\u0111\u0000\u0000\u0000"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0000\u0000";
+}
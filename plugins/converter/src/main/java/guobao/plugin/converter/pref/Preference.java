@@ -5,6 +5,12 @@ import android.content.SharedPreferences;
 import bin.mt.plugin.api.PluginContext;
 import bin.mt.plugin.api.preference.PluginPreference;
 
+import guobao.plugin.converter.ConversionStats;
+import guobao.plugin.converter.tool.Pipeline;
+
+import java.util.List;
+import java.util.Locale;
+
 public class Preference implements PluginPreference {
   public void onBuild(PluginContext context, Builder builder) {
 
@@ -18,6 +24,14 @@ public class Preference implements PluginPreference {
       .defaultValue(false)
       .summaryOn("{on_1}")
       .summaryOff("{off_1_default}");
+    builder.addSwitch("{split_symbol}", "split_symbol")
+      .defaultValue(false)
+      .summaryOn("{on_1}")
+      .summaryOff("{off_1_default}");
+    builder.addSwitch("{case_cache}", "case_cache")
+      .defaultValue(true)
+      .summaryOn("{on_default}")
+      .summaryOff("{off}");
 
     builder.addHeader("{camel_info}");
     builder.addSwitch("{camel_upper}", "camel_upper")
@@ -25,12 +39,65 @@ public class Preference implements PluginPreference {
       .summaryOn("{on}")
       .summaryOff("{off_default}");
 
+    builder.addHeader("{unicode}");
+    builder.addSwitch("{unicode_upper}", "unicode_upper")
+      .defaultValue(false)
+      .summaryOn("{on}")
+      .summaryOff("{off_default}");
+    builder.addSwitch("{unicode_keep_latin1}", "unicode_keep_latin1")
+      .defaultValue(false)
+      .summaryOn("{on}")
+      .summaryOff("{off_default}");
+    builder.addSwitch("{unicode_long}", "unicode_long")
+      .defaultValue(false)
+      .summaryOn("{on}")
+      .summaryOff("{off_default}");
+    builder.addSwitch("{unicode_decode_extra}", "unicode_decode_extra")
+      .defaultValue(false)
+      .summaryOn("{on}")
+      .summaryOff("{off_default}");
+
+    builder.addHeader("{codec}");
+    builder.addList("{codec_charset}", "codec_charset")
+      .defaultValue("UTF-8")
+      .summary("{codec_charset_info}")
+      .addItem("UTF-8", "UTF-8")
+      .addItem("GBK", "GBK")
+      .addItem("UTF-16LE", "UTF-16LE")
+      .addItem("ISO-8859-1", "ISO-8859-1");
+
+    builder.addHeader("{pipeline}");
+    builder.addInput("{pipelines}", Pipeline.KEY_PIPELINES)
+      .defaultValue(Pipeline.DEFAULT_PIPELINES)
+      .summary("{pipelines_info}");
+
     builder.addHeader("{zshh}");
     builder.addText("{title}").summary("{zshh_info}");
     builder.addText("{title_2}").summary("{zshh_info_warn}");
 
+    // 各工具的累计调用统计，每次翻译结束时更新
+    builder.addHeader("{stats}");
+    List<ConversionStats.Entry> stats = ConversionStats.decode(context.getPreferences().getString(ConversionStats.KEY_STATS, null)).entries();
+    if (stats.isEmpty()) {
+      builder.addText("{stats_empty}").summary("{stats_info}");
+    } else {
+      String format = context.getString("stats_entry");
+      for (ConversionStats.Entry e : stats) {
+        builder.addText(displayName(context, e.tool) + " → " + displayName(context, e.target))
+          .summary(String.format(Locale.ROOT, format, e.calls(), e.inChars(), e.outChars(), ConversionStats.formatNanos(e.estimatedNanos())));
+      }
+    }
+
 
     builder.addHeader("{about}");
     builder.addText("{github}").summary("{github_info}").url(context.getString("{github_url}"));
   }
-}
\ No newline at end of file
+
+  private static String displayName(PluginContext context, String id) {
+    // 流水线的目标是用户填写的描述，直接显示
+    if (id.indexOf(':') > 0) return id;
+    if (ConversionStats.INIT.equals(id)) return context.getString("stats_init");
+    if (ConversionStats.CONFIG.equals(id)) return context.getString("stats_config");
+    return context.getString(id);
+  }
+}
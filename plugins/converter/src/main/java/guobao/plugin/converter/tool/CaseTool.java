@@ -0,0 +1,27 @@
+package guobao.plugin.converter.tool;
+
+import java.io.IOException;
+
+import guobao.plugin.converter.Converter;
+
+/**
+ * 命名法转换，转换设置由 {@link Converter} 读取
+ */
+final class CaseTool implements ConversionTool {
+
+    private final Converter converter;
+
+    CaseTool(Converter converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    public String convert(String text, String target) throws IOException {
+        return converter.strCase(text, target);
+    }
+
+    @Override
+    public void convert(CharSequence text, int start, int end, String target, StringBuilder out) {
+        converter.strCase(text, start, end, target, out);
+    }
+}
@@ -0,0 +1,64 @@
+package guobao.plugin.converter.tool;
+
+import android.content.SharedPreferences;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import guobao.plugin.converter.ByteCodec;
+import guobao.plugin.converter.Converter;
+
+/**
+ * 十六进制、Base64 与百分号编码，文本与字节之间按设置中的字符集转换
+ */
+final class CodecTool implements ConversionTool {
+
+    /** 设置中保存字符集的键 */
+    static final String KEY_CHARSET = "codec_charset";
+
+    private final SharedPreferences config;
+    private final ByteCodec.Format format;
+
+    CodecTool(Converter converter, ByteCodec.Format format) {
+        this.config = converter.getContext().getPreferences();
+        this.format = format;
+    }
+
+    @Override
+    public String convert(String text, String target) throws IOException {
+        if (text == null || text.isEmpty()) return text;
+        StringBuilder out = new StringBuilder(text.length() * 2);
+        convert(text, 0, text.length(), target, out);
+        return out.toString();
+    }
+
+    @Override
+    public void convert(CharSequence text, int start, int end, String target, StringBuilder out) throws IOException {
+        final Charset charset = charset();
+        switch (target) {
+            case "encode" -> ByteCodec.encode(text, start, end, format, charset, out);
+            // Base64 的 URL 安全字母表
+            case "encode_url" -> ByteCodec.encode(text, start, end, ByteCodec.Format.BASE64_URL, charset, out);
+            case "decode" -> {
+                try {
+                    ByteCodec.decode(text, start, end, format, charset, out);
+                } catch (IllegalArgumentException e) {
+                    // 输入不是有效的编码结果，交给翻译引擎显示错误
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+            default -> out.append(text, start, end);
+        }
+    }
+
+    private Charset charset() {
+        String name = config.getString(KEY_CHARSET, "UTF-8");
+        try {
+            return Charset.forName(name);
+        } catch (IllegalArgumentException e) {
+            // 设备不支持的字符集
+            return StandardCharsets.UTF_8;
+        }
+    }
+}
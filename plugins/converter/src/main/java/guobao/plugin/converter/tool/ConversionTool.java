@@ -0,0 +1,40 @@
+package guobao.plugin.converter.tool;
+
+import java.io.IOException;
+
+/**
+ * 转换工具
+ *
+ * <p>每个工具对应翻译引擎中的一种「源语言」，由 {@link ConversionTools} 注册并在首次使用时创建。
+ * 工具可支持的目标（即「目标语言」）在注册时声明，获取目标列表不需要创建工具实例。
+ */
+public interface ConversionTool {
+
+    /**
+     * 把文本转换为指定目标。
+     *
+     * @param text   输入文本
+     * @param target 转换目标，为注册时声明的目标之一
+     * @return 转换结果
+     */
+    String convert(String text, String target) throws IOException;
+
+    /**
+     * 把 text 的 [start, end) 区间转换后追加到 out，{@link Pipeline} 串联多个工具时使用。
+     *
+     * <p>默认实现先取出子串再调用 {@link #convert(String, String)}；
+     * 能够直接读取区间、追加结果的工具应覆盖此方法，避免产生中间字符串。
+     */
+    default void convert(CharSequence text, int start, int end, String target, StringBuilder out) throws IOException {
+        out.append(convert(text.subSequence(start, end).toString(), target));
+    }
+
+    /**
+     * 转换结果是否只由输入与设置决定，可以在一次翻译过程内缓存（见 {@link guobao.plugin.converter.ConversionCache}）。
+     *
+     * <p>读写文件等有副作用的工具应返回 false。
+     */
+    default boolean cacheable(String target) {
+        return true;
+    }
+}
@@ -0,0 +1,151 @@
+package guobao.plugin.converter.tool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import bin.mt.plugin.api.PluginContext;
+
+import guobao.plugin.converter.ByteCodec;
+import guobao.plugin.converter.ConversionStats;
+import guobao.plugin.converter.Converter;
+
+/**
+ * 转换工具注册表
+ *
+ * <p>静态部分只记录每个工具的名称、目标列表与创建方法，不会加载工具类本身；
+ * 实例部分属于某个 {@link Converter}，在第一次转换时才创建对应的工具。
+ * 因此只做命名法转换时，Markdown 解析器等较重的依赖不会被加载。
+ *
+ * <p>新增工具只需在静态代码块中调用 {@link #register}，翻译引擎会自动列出它。
+ */
+public final class ConversionTools {
+
+    /** 创建工具实例 */
+    public interface Factory {
+        ConversionTool create(Converter converter);
+    }
+
+    /** 读取由设置决定的目标列表 */
+    public interface TargetLoader {
+        List<String> load(PluginContext context);
+    }
+
+    /** 工具的注册信息 */
+    public static final class Registration {
+        /** 工具名，同时是翻译引擎中的源语言 */
+        public final String id;
+        /** 支持的转换目标，由设置决定时为 null，此时通过 {@link #targets(PluginContext)} 读取 */
+        public final List<String> targets;
+        /** 选中工具时提示的文本，没有时为 null */
+        public final String warning;
+        /** 多行文本能否逐行独立转换，为 false 时批量翻译不拆分词条，流水线也把整段文本交给每一级 */
+        public final boolean batch;
+        final Factory factory;
+        final TargetLoader loader;
+
+        Registration(String id, List<String> targets, String warning, boolean batch, Factory factory, TargetLoader loader) {
+            this.id = id;
+            this.targets = targets;
+            this.warning = warning;
+            this.batch = batch;
+            this.factory = factory;
+            this.loader = loader;
+        }
+
+        /** 支持的转换目标 */
+        public List<String> targets(PluginContext context) {
+            return targets != null ? targets : loader.load(context);
+        }
+    }
+
+    private static final Map<String, Registration> REGISTRY = new LinkedHashMap<>();
+    private static final List<String> COMMON = Arrays.asList("decode", "encode");
+
+    static {
+        register("case", Arrays.asList("constant", "reverse", "snake", "camel", "kebab", "space", "chain", "path", "upper", "lower", "swap", "title_case"/*, "pascal"*/),
+                null, true, CaseTool::new);
+        // Markdown 的列表、代码块等结构跨越多行，不能逐行转换
+        register("md_ubb", Arrays.asList("ubb", "html", "markdown"), null, false, converter -> new MarkdownUbbTool());
+        register("unicode", COMMON, null, true, UnicodeTool::new);
+        register("normalize", Arrays.asList("nfc", "nfd", "nfkc", "nfkd", "half_width", "full_width"), null, true, converter -> new NormalizeTool());
+        // 字节编解码不能逐行转换：编码结果应包含换行本身，折行的 Base64 解码时 UTF-8 字节序列会跨行
+        register("hex", COMMON, null, false, converter -> new CodecTool(converter, ByteCodec.Format.HEX));
+        register("base64", Arrays.asList("encode", "encode_url", "decode"), null, false, converter -> new CodecTool(converter, ByteCodec.Format.BASE64));
+        register("percent", COMMON, null, false, converter -> new CodecTool(converter, ByteCodec.Format.PERCENT));
+        register("zshh", COMMON, "warning", true, ZshHistTool::new);
+        // 流水线的目标是设置中的流水线描述；是否逐行处理由流水线按各级工具自行决定
+        register("pipeline", context -> Pipeline.parseAll(context.getPreferences().getString(Pipeline.KEY_PIPELINES, Pipeline.DEFAULT_PIPELINES)),
+                false, PipelineTool::new);
+    }
+
+    /**
+     * 注册工具，同名工具会被替换。
+     *
+     * @param id      工具名
+     * @param targets 支持的转换目标
+     * @param warning 选中工具时提示的文本，不需要时传入 null
+     * @param batch   多行文本能否逐行独立转换
+     * @param factory 创建工具实例的方法，只在第一次使用时调用
+     */
+    public static synchronized void register(String id, List<String> targets, String warning, boolean batch, Factory factory) {
+        REGISTRY.put(id, new Registration(id, Collections.unmodifiableList(new ArrayList<>(targets)), warning, batch, factory, null));
+    }
+
+    /**
+     * 注册目标列表由设置决定的工具，同名工具会被替换。
+     *
+     * @param id      工具名
+     * @param loader  读取目标列表的方法
+     * @param batch   多行文本能否逐行独立转换
+     * @param factory 创建工具实例的方法，只在第一次使用时调用
+     */
+    public static synchronized void register(String id, TargetLoader loader, boolean batch, Factory factory) {
+        REGISTRY.put(id, new Registration(id, null, null, batch, factory, loader));
+    }
+
+    /** 全部工具名，按注册顺序排列 */
+    public static synchronized List<String> ids() {
+        return new ArrayList<>(REGISTRY.keySet());
+    }
+
+    /** 获取工具的注册信息，未注册时返回 null */
+    public static synchronized Registration registration(String id) {
+        return REGISTRY.get(id);
+    }
+
+    /** 工具支持的转换目标，未注册的工具返回公共的 decode / encode */
+    public static List<String> targets(String id, PluginContext context) {
+        Registration r = registration(id);
+        return r == null ? COMMON : r.targets(context);
+    }
+
+    private final Converter converter;
+    private final Map<String, ConversionTool> tools = new HashMap<>();
+
+    public ConversionTools(Converter converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * 获取工具实例，第一次获取时创建。
+     *
+     * @return 工具实例，未注册时返回 null
+     */
+    public synchronized ConversionTool get(String id) {
+        ConversionTool tool = tools.get(id);
+        if (tool == null) {
+            Registration r = registration(id);
+            if (r == null) return null;
+            final long t0 = System.nanoTime();
+            tool = r.factory.create(converter);
+            converter.stats().entry(id, ConversionStats.INIT).add(1, 0, 0, 1, System.nanoTime() - t0);
+            tools.put(id, tool);
+        }
+        return tool;
+    }
+}
@@ -0,0 +1,18 @@
+package guobao.plugin.converter.tool;
+
+import guobao.plugin.converter.util.MarkdownUbbConverter;
+
+/**
+ * Markdown 与 UBB 互转
+ *
+ * <p>commonmark 只由本类引用，没有选择该工具时不会被加载。
+ */
+final class MarkdownUbbTool implements ConversionTool {
+
+    private final MarkdownUbbConverter markdownUbb = new MarkdownUbbConverter();
+
+    @Override
+    public String convert(String str, String to) {
+        return "ubb".equals(to) ? markdownUbb.toUBB(str) : markdownUbb.toMarkdown(str);
+    }
+}
@@ -0,0 +1,46 @@
+package guobao.plugin.converter.tool;
+
+import java.text.Normalizer;
+
+import guobao.plugin.converter.TextNormalizer;
+
+/**
+ * Unicode 规范化与全角/半角转换
+ */
+final class NormalizeTool implements ConversionTool {
+
+    @Override
+    public String convert(String text, String target) {
+        return switch (target) {
+            case "half_width" -> TextNormalizer.toHalfWidth(text);
+            case "full_width" -> TextNormalizer.toFullWidth(text);
+            default -> {
+                Normalizer.Form form = form(target);
+                yield form == null ? text : TextNormalizer.normalize(text, form);
+            }
+        };
+    }
+
+    @Override
+    public void convert(CharSequence text, int start, int end, String target, StringBuilder out) {
+        switch (target) {
+            case "half_width" -> TextNormalizer.toHalfWidth(text, start, end, out);
+            case "full_width" -> TextNormalizer.toFullWidth(text, start, end, out);
+            default -> {
+                Normalizer.Form form = form(target);
+                if (form == null) out.append(text, start, end);
+                else TextNormalizer.normalize(text, start, end, form, out);
+            }
+        }
+    }
+
+    private static Normalizer.Form form(String target) {
+        return switch (target) {
+            case "nfc" -> Normalizer.Form.NFC;
+            case "nfd" -> Normalizer.Form.NFD;
+            case "nfkc" -> Normalizer.Form.NFKC;
+            case "nfkd" -> Normalizer.Form.NFKD;
+            default -> null;
+        };
+    }
+}
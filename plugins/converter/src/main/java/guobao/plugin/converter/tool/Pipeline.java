@@ -0,0 +1,176 @@
+package guobao.plugin.converter.tool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import guobao.plugin.converter.Converter;
+
+/**
+ * 转换流水线：把多个工具串联成一次转换
+ *
+ * <p>流水线写作 {@code 工具:目标 > 工具:目标 > ...}，例如 {@code unicode:decode > case:snake}。
+ * 每一级通过 {@link ConversionTool#convert(CharSequence, int, int, String, StringBuilder)} 读取上一级的结果并追加到下一级的缓冲区，
+ * 各级之间只在两个复用的 StringBuilder 之间交替读写，不产生中间字符串。
+ *
+ * <p>所有工具都支持逐行转换时（见 {@link ConversionTools.Registration#batch}）按行流式处理：
+ * 每一行依次经过所有工具后立即写入输出，缓冲区只需容纳一行；否则整段文本依次经过每一级。
+ *
+ * <p>示例：
+ * <pre>{@code
+ * Pipeline pipeline = Pipeline.parse("unicode:decode > case:snake");
+ * pipeline.run(converter, "\\u7528\\u6237Name", out); // out: "用户name"
+ * }</pre>
+ */
+public final class Pipeline {
+
+    /** 设置中保存流水线列表的键 */
+    public static final String KEY_PIPELINES = "pipelines";
+    /** 默认的流水线列表 */
+    public static final String DEFAULT_PIPELINES = "unicode:decode > case:snake; md_ubb:ubb > unicode:encode";
+
+    /** 一个流水线内的级数上限 */
+    public static final int MAX_STAGES = 8;
+
+    private final String spec;
+    private final String[] tools;
+    private final String[] targets;
+    private final boolean lineByLine;
+
+    private Pipeline(String spec, String[] tools, String[] targets, boolean lineByLine) {
+        this.spec = spec;
+        this.tools = tools;
+        this.targets = targets;
+        this.lineByLine = lineByLine;
+    }
+
+    /**
+     * 解析流水线。
+     *
+     * @param spec 形如 {@code unicode:decode > case:snake} 的描述
+     * @return 流水线
+     * @throws IllegalArgumentException 格式错误，或包含未注册的工具、工具不支持的目标
+     */
+    public static Pipeline parse(String spec) {
+        String[] parts = spec.split(">");
+        if (parts.length > MAX_STAGES) throw new IllegalArgumentException("too many stages: " + spec);
+        String[] tools = new String[parts.length];
+        String[] targets = new String[parts.length];
+        boolean lineByLine = true;
+        for (int i = 0; i < parts.length; i++) {
+            String stage = parts[i].trim();
+            int colon = stage.indexOf(':');
+            if (colon <= 0 || colon == stage.length() - 1) throw new IllegalArgumentException("invalid stage: " + stage);
+            String tool = stage.substring(0, colon).trim();
+            String target = stage.substring(colon + 1).trim();
+            ConversionTools.Registration r = ConversionTools.registration(tool);
+            if (r == null || r.targets == null) throw new IllegalArgumentException("unknown tool: " + tool);
+            if (!r.targets.contains(target)) throw new IllegalArgumentException("unknown target: " + stage);
+            tools[i] = tool;
+            targets[i] = target;
+            lineByLine &= r.batch;
+        }
+        return new Pipeline(format(tools, targets), tools, targets, lineByLine);
+    }
+
+    /**
+     * 解析以分号或换行分隔的多个流水线，忽略空项与格式错误的项。
+     *
+     * @return 规范化后的流水线描述，可再次传给 {@link #parse}
+     */
+    public static List<String> parseAll(String specs) {
+        List<String> list = new ArrayList<>();
+        if (specs == null) return list;
+        for (String spec : specs.split("[;\n]")) {
+            if (spec.trim().isEmpty()) continue;
+            try {
+                String normalized = parse(spec).spec;
+                if (!list.contains(normalized)) list.add(normalized);
+            } catch (IllegalArgumentException ignored) {
+                // 设置中的错误项不显示
+            }
+        }
+        return list;
+    }
+
+    /** 规范化的描述，各级之间以 " > " 连接 */
+    public String spec() {
+        return spec;
+    }
+
+    /** 级数 */
+    public int size() {
+        return tools.length;
+    }
+
+    /** 每一级的结果都可以缓存时，整个流水线的结果才可以缓存 */
+    public boolean cacheable(Converter converter) {
+        for (int i = 0; i < tools.length; i++) {
+            if (!converter.tool(tools[i]).cacheable(targets[i])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 运行流水线，把 src 的转换结果追加到 out。
+     *
+     * @param converter 提供各级工具实例的 Converter
+     */
+    public void run(Converter converter, CharSequence src, Appendable out) throws IOException {
+        ConversionTool[] stages = new ConversionTool[tools.length];
+        for (int i = 0; i < stages.length; i++) stages[i] = converter.tool(tools[i]);
+
+        // 输出本身是 StringBuilder 时最后一级直接写入，否则写入 sink 后再按块追加
+        StringBuilder direct = out instanceof StringBuilder sb ? sb : null;
+        StringBuilder sink = direct != null ? direct : new StringBuilder();
+        StringBuilder a = new StringBuilder(), b = new StringBuilder();
+        final int len = src.length();
+        if (!lineByLine) {
+            runStages(stages, src, 0, len, a, b, sink);
+        } else {
+            int start = 0;
+            while (start < len) {
+                int nl = start;
+                while (nl < len && src.charAt(nl) != '\n') nl++;
+                runStages(stages, src, start, nl, a, b, sink);
+                if (nl < len) sink.append('\n');
+                start = nl + 1;
+                if (direct == null) {
+                    out.append(sink);
+                    sink.setLength(0);
+                }
+            }
+        }
+        if (direct == null && sink.length() > 0) out.append(sink);
+    }
+
+    /** 依次运行每一级，上一级的结果在 a、b 两个缓冲区之间交替，最后一级写入 sink */
+    private void runStages(ConversionTool[] stages, CharSequence src, int start, int end,
+                           StringBuilder a, StringBuilder b, StringBuilder sink) throws IOException {
+        CharSequence in = src;
+        int from = start, to = end;
+        for (int i = 0; i < stages.length; i++) {
+            boolean last = i == stages.length - 1;
+            StringBuilder next = last ? sink : (in == a ? b : a);
+            if (!last) next.setLength(0);
+            stages[i].convert(in, from, to, targets[i], next);
+            in = next;
+            from = 0;
+            to = next.length();
+        }
+    }
+
+    private static String format(String[] tools, String[] targets) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tools.length; i++) {
+            if (i > 0) sb.append(" > ");
+            sb.append(tools[i]).append(':').append(targets[i]);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,47 @@
+package guobao.plugin.converter.tool;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import guobao.plugin.converter.Converter;
+
+/**
+ * 转换流水线，目标即流水线描述（见 {@link Pipeline}）
+ */
+final class PipelineTool implements ConversionTool {
+
+    private final Converter converter;
+    // 已解析的流水线，按描述缓存
+    private final Map<String, Pipeline> pipelines = new HashMap<>();
+
+    PipelineTool(Converter converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    public String convert(String text, String target) throws IOException {
+        StringBuilder out = new StringBuilder(text.length());
+        pipeline(target).run(converter, text, out);
+        return out.toString();
+    }
+
+    @Override
+    public void convert(CharSequence text, int start, int end, String target, StringBuilder out) throws IOException {
+        pipeline(target).run(converter, text.subSequence(start, end), out);
+    }
+
+    @Override
+    public boolean cacheable(String target) {
+        return pipeline(target).cacheable(converter);
+    }
+
+    private synchronized Pipeline pipeline(String spec) {
+        Pipeline p = pipelines.get(spec);
+        if (p == null) {
+            p = Pipeline.parse(spec);
+            pipelines.put(spec, p);
+        }
+        return p;
+    }
+}
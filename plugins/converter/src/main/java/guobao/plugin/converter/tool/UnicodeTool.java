@@ -0,0 +1,44 @@
+package guobao.plugin.converter.tool;
+
+import android.content.SharedPreferences;
+
+import guobao.plugin.converter.Converter;
+import guobao.plugin.converter.UnicodeEscape;
+
+/**
+ * Unicode 转义序列编解码
+ */
+final class UnicodeTool implements ConversionTool {
+
+    private final SharedPreferences config;
+
+    UnicodeTool(Converter converter) {
+        this.config = converter.getContext().getPreferences();
+    }
+
+    @Override
+    public String convert(String text, String target) {
+        return Converter.unicode(text, target, flags(target));
+    }
+
+    @Override
+    public void convert(CharSequence text, int start, int end, String target, StringBuilder out) {
+        switch (target) {
+            case "encode" -> UnicodeEscape.encode(text, start, end, flags(target), out);
+            case "decode" -> UnicodeEscape.decode(text, start, end, flags(target), out);
+            default -> out.append(text, start, end);
+        }
+    }
+
+    private int flags(String target) {
+        int flags = 0;
+        if ("encode".equals(target)) {
+            if (config.getBoolean("unicode_upper", false)) flags |= UnicodeEscape.UPPER_CASE;
+            if (config.getBoolean("unicode_keep_latin1", false)) flags |= UnicodeEscape.KEEP_LATIN1;
+            if (config.getBoolean("unicode_long", false)) flags |= UnicodeEscape.SUPPLEMENTARY_LONG;
+        } else if (config.getBoolean("unicode_decode_extra", false)) {
+            flags = UnicodeEscape.DECODE_LONG | UnicodeEscape.DECODE_HEX | UnicodeEscape.DECODE_HTML;
+        }
+        return flags;
+    }
+}
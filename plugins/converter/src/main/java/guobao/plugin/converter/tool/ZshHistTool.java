@@ -0,0 +1,40 @@
+package guobao.plugin.converter.tool;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import bin.mt.plugin.api.PluginContext;
+
+import guobao.plugin.converter.Converter;
+import guobao.plugin.converter.util.ZshHist;
+
+/**
+ * zsh 历史记录文件的编解码，输入为文件路径，结果写入同目录下的新文件
+ */
+final class ZshHistTool implements ConversionTool {
+
+    private final PluginContext context;
+
+    ZshHistTool(Converter converter) {
+        this.context = converter.getContext();
+    }
+
+    @Override
+    public String convert(String source, String target) throws IOException {
+        ZshHist zsh = new ZshHist();
+        String outputPath = source + "_" + target;
+        try {
+            zsh.process(source, outputPath, "encode".equals(target));
+        } catch (FileNotFoundException e) {
+            throw new FileNotFoundException(context.getString(e.getMessage()));
+        }
+
+        return context.getString(target) + context.getString("zshh_out") + outputPath;
+    }
+
+    @Override
+    public boolean cacheable(String target) {
+        // 每次转换都会写出文件，不能跳过
+        return false;
+    }
+}
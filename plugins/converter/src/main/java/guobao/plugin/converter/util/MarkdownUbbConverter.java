@@ -14,21 +14,23 @@ import java.util.*;
  * - Markdown→UBB 使用 commonmark-java 解析 AST 并自定义渲染器输出 UBB。
  * - UBB→Markdown 使用简单的解析/替换策略，覆盖常见标签（b/i/u/s/url/img/quote/code/list 等）。
  * - 仅实现通用语法，不同论坛的UBB可能存在差异，后续拓展。
+ * - 实例不保存转换状态，可在多个线程间共用。
  */
 public class MarkdownUbbConverter {
 
-    private final Parser mdParser;
+    // Parser 构建时要初始化全部块解析器与扩展，开销不小；构建完成后是线程安全的，所有实例共用一个
+    private static final Parser MD_PARSER = buildParser();
 
-    public MarkdownUbbConverter() {
+    private static Parser buildParser() {
         List<Extension> exts = new ArrayList<>();
         exts.add(StrikethroughExtension.create());
-        mdParser = Parser.builder().extensions(exts).build();
+        return Parser.builder().extensions(exts).build();
     }
 
     // ---------------- Markdown -> UBB ----------------
     public String toUBB(String markdown) {
         if (markdown == null || markdown.isEmpty()) return "";
-        Node doc = mdParser.parse(markdown);
+        Node doc = MD_PARSER.parse(markdown);
         StringBuilder out = new StringBuilder();
         renderNodeToUbb(doc, out);
         // 去掉结尾多余空行
@@ -1,6 +1,13 @@
 package guobao.plugin.converter.util;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 
 public class StringByte {
     // String → byte[]
@@ -12,4 +19,117 @@ public class StringByte {
     public static String toString(byte[] bytes, String encoding) throws UnsupportedEncodingException {
         return new String(bytes, encoding);
     }
-}
\ No newline at end of file
+
+    // ===================== 分块编解码 =====================
+    //
+    // 以下方法使用固定大小的缓冲区分块处理，内存占用与输入长度无关，适合 MB 级别的文本。
+    // 无法编码或解码的字符按替换字符处理，与 String.getBytes / new String 的行为一致。
+
+    /** 分块编解码使用的缓冲区大小 */
+    public static final int BUFFER_SIZE = 8192;
+
+    /** 接收字节块 */
+    public interface ByteSink {
+        void write(byte[] b, int off, int len) throws IOException;
+    }
+
+    /**
+     * 把 src 的 [start, end) 区间按 charset 编码，分块交给 sink。
+     */
+    public static void encode(CharSequence src, int start, int end, Charset charset, ByteSink sink) throws IOException {
+        CharsetEncoder encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer in = CharBuffer.wrap(src, start, end);
+        byte[] buf = new byte[BUFFER_SIZE];
+        ByteBuffer out = ByteBuffer.wrap(buf);
+        while (true) {
+            CoderResult r = encoder.encode(in, out, true);
+            if (r.isOverflow()) {
+                sink.write(buf, 0, out.position());
+                out.clear();
+            } else if (r.isUnderflow()) {
+                break;
+            } else {
+                r.throwException();
+            }
+        }
+        while (encoder.flush(out).isOverflow()) {
+            sink.write(buf, 0, out.position());
+            out.clear();
+        }
+        if (out.position() > 0) sink.write(buf, 0, out.position());
+    }
+
+    /**
+     * 分块解码器：依次写入字节块，解码得到的字符追加到 StringBuilder。
+     * 多字节字符被拆分到两个块中时会保留到下一次写入。
+     *
+     * <p>示例：
+     * <pre>{@code
+     * StringByte.Decoder decoder = new StringByte.Decoder(StandardCharsets.UTF_8);
+     * StringBuilder sb = new StringBuilder();
+     * decoder.write(chunk1, 0, n1, sb);
+     * decoder.write(chunk2, 0, n2, sb);
+     * decoder.finish(sb);
+     * }</pre>
+     */
+    public static final class Decoder {
+        private final CharsetDecoder decoder;
+        // 上一次写入剩下的不完整字节
+        private final ByteBuffer pending = ByteBuffer.allocate(16);
+        private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+        public Decoder(Charset charset) {
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        public void write(byte[] b, int off, int len, StringBuilder out) throws IOException {
+            ByteBuffer in = ByteBuffer.wrap(b, off, len);
+            if (pending.position() > 0) {
+                // 先补全上次剩下的字符
+                while (in.hasRemaining() && pending.hasRemaining()) {
+                    pending.put(in.get());
+                    pending.flip();
+                    decode(pending, false, out);
+                    pending.compact();
+                    if (pending.position() == 0) break;
+                }
+            }
+            decode(in, false, out);
+            if (in.hasRemaining()) pending.put(in);
+        }
+
+        /** 结束解码，末尾不完整的字节按替换字符输出 */
+        public void finish(StringBuilder out) throws IOException {
+            pending.flip();
+            decode(pending, true, out);
+            pending.clear();
+            while (decoder.flush(chars).isOverflow()) drain(out);
+            drain(out);
+            decoder.reset();
+        }
+
+        private void decode(ByteBuffer in, boolean endOfInput, StringBuilder out) throws IOException {
+            while (true) {
+                CoderResult r = decoder.decode(in, chars, endOfInput);
+                if (r.isOverflow()) {
+                    drain(out);
+                } else if (r.isUnderflow()) {
+                    drain(out);
+                    return;
+                } else {
+                    r.throwException();
+                }
+            }
+        }
+
+        private void drain(StringBuilder out) {
+            chars.flip();
+            out.append(chars);
+            chars.clear();
+        }
+    }
+}
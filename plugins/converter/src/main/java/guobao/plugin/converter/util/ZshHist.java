@@ -55,13 +55,18 @@ public class ZshHist {
         return out.toByteArray();
     }
 
-    // 辅助方法
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    // 辅助方法，每个字节输出为两位大写十六进制加一个空格
     private final static String bytesToHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02X ", b));
+        char[] out = new char[bytes.length * 3];
+        for (int i = 0, p = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xFF;
+            out[p++] = HEX[v >>> 4];
+            out[p++] = HEX[v & 0xF];
+            out[p++] = ' ';
         }
-        return sb.toString();
+        return new String(out);
     }
 
     // 二进制流
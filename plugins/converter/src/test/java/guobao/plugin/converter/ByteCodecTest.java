@@ -0,0 +1,147 @@
+package guobao.plugin.converter;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import guobao.plugin.converter.util.StringByte;
+
+public class ByteCodecTest {
+
+    private static final Charset UTF_8 = StandardCharsets.UTF_8;
+
+    @Test
+    public void testHex() throws IOException {
+        Assert.assertEquals("e4b8ade69687", ByteCodec.encode("中文", ByteCodec.Format.HEX, UTF_8));
+        Assert.assertEquals("d6d0cec4", ByteCodec.encode("中文", ByteCodec.Format.HEX, Charset.forName("GBK")));
+        Assert.assertEquals("", ByteCodec.encode("", ByteCodec.Format.HEX, UTF_8));
+        // 大小写混合、带空白
+        Assert.assertEquals("中文", ByteCodec.decode("E4 B8 AD\ne6 96 87", ByteCodec.Format.HEX, UTF_8));
+        Assert.assertNull(ByteCodec.decode(null, ByteCodec.Format.HEX, UTF_8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHexInvalid() throws IOException {
+        ByteCodec.decode("e4g8", ByteCodec.Format.HEX, UTF_8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHexOdd() throws IOException {
+        ByteCodec.decode("e4b", ByteCodec.Format.HEX, UTF_8);
+    }
+
+    @Test
+    public void testBase64() throws IOException {
+        Assert.assertEquals("5Lit5paH", ByteCodec.encode("中文", ByteCodec.Format.BASE64, UTF_8));
+        Assert.assertEquals("YQ==", ByteCodec.encode("a", ByteCodec.Format.BASE64, UTF_8));
+        Assert.assertEquals("YWI=", ByteCodec.encode("ab", ByteCodec.Format.BASE64, UTF_8));
+        Assert.assertEquals("YWI", ByteCodec.encode("ab", ByteCodec.Format.BASE64_URL, UTF_8));
+        // 解码同时识别两种字母表，填充可省略
+        Assert.assertEquals("ab", ByteCodec.decode("YWI", ByteCodec.Format.BASE64, UTF_8));
+        Assert.assertEquals("ab", ByteCodec.decode("Y W\nI=", ByteCodec.Format.BASE64, UTF_8));
+        byte[] bytes = {(byte) 0xfb, (byte) 0xff, (byte) 0xbf};
+        Assert.assertArrayEquals(bytes, decodeBytes("-_-_", ByteCodec.Format.BASE64));
+        Assert.assertArrayEquals(bytes, decodeBytes("+/+/", ByteCodec.Format.BASE64_URL));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBase64Truncated() throws IOException {
+        ByteCodec.decode("YWJjZ", ByteCodec.Format.BASE64, UTF_8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBase64DataAfterPadding() throws IOException {
+        ByteCodec.decode("YQ==YQ==", ByteCodec.Format.BASE64, UTF_8);
+    }
+
+    @Test
+    public void testPercent() throws IOException {
+        Assert.assertEquals("a%20b%2F%E4%B8%AD-._~", ByteCodec.encode("a b/中-._~", ByteCodec.Format.PERCENT, UTF_8));
+        Assert.assertEquals("a b/中", ByteCodec.decode("a%20b%2f%E4%B8%AD", ByteCodec.Format.PERCENT, UTF_8));
+        // 不完整的序列原样保留，原样出现的非 ASCII 字符按字符集转换
+        Assert.assertEquals("100% 中%4", ByteCodec.decode("100% 中%4", ByteCodec.Format.PERCENT, UTF_8));
+        Assert.assertEquals("%zz😀", ByteCodec.decode("%zz%F0%9F%98%80", ByteCodec.Format.PERCENT, UTF_8));
+        Assert.assertEquals("中", ByteCodec.decode("%D6%D0", ByteCodec.Format.PERCENT, Charset.forName("GBK")));
+    }
+
+    @Test
+    public void testAgainstJdk() throws IOException {
+        Random random = new Random(21);
+        for (int n = 0; n < 200; n++) {
+            String s = randomText(random, random.nextInt(40));
+            byte[] bytes = s.getBytes(UTF_8);
+            Assert.assertEquals(Base64.getEncoder().encodeToString(bytes), ByteCodec.encode(s, ByteCodec.Format.BASE64, UTF_8));
+            Assert.assertEquals(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes), ByteCodec.encode(s, ByteCodec.Format.BASE64_URL, UTF_8));
+            String percent = ByteCodec.encode(s, ByteCodec.Format.PERCENT, UTF_8);
+            Assert.assertEquals(s, URLDecoder.decode(percent, "UTF-8"));
+            for (ByteCodec.Format format : ByteCodec.Format.values()) {
+                Assert.assertEquals(s, ByteCodec.decode(ByteCodec.encode(s, format, UTF_8), format, UTF_8));
+            }
+        }
+    }
+
+    @Test
+    public void testLargeInput() throws IOException {
+        // 超过缓冲区大小，多字节字符跨越分块边界
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) sb.append("a中😀");
+        String s = sb.toString();
+        for (ByteCodec.Format format : ByteCodec.Format.values()) {
+            String encoded = ByteCodec.encode(s, format, UTF_8);
+            Assert.assertEquals(s, ByteCodec.decode(encoded, format, UTF_8));
+        }
+        Assert.assertEquals(Base64.getEncoder().encodeToString(s.getBytes(UTF_8)), ByteCodec.encode(s, ByteCodec.Format.BASE64, UTF_8));
+    }
+
+    @Test
+    public void testChunkedDecoder() throws IOException {
+        // 逐字符写入，% 序列被拆开
+        String encoded = ByteCodec.encode("x中😀y", ByteCodec.Format.PERCENT, UTF_8);
+        StringBuilder out = new StringBuilder();
+        StringByte.Decoder chars = new StringByte.Decoder(UTF_8);
+        ByteCodec.Decoder decoder = new ByteCodec.Decoder(ByteCodec.Format.PERCENT, UTF_8, (b, off, len) -> chars.write(b, off, len, out));
+        for (int i = 0; i < encoded.length(); i++) decoder.write(encoded, i, i + 1);
+        decoder.finish();
+        chars.finish(out);
+        Assert.assertEquals("x中😀y", out.toString());
+    }
+
+    @Test
+    public void testChunkedCharsetDecoder() throws IOException {
+        // 逐字节写入，多字节字符被拆开；末尾不完整的字节输出为替换字符
+        byte[] bytes = "x中😀y".getBytes(UTF_8);
+        StringBuilder out = new StringBuilder();
+        StringByte.Decoder chars = new StringByte.Decoder(UTF_8);
+        for (int i = 0; i < bytes.length; i++) chars.write(bytes, i, 1, out);
+        chars.write(bytes, 1, 2, out);
+        chars.finish(out);
+        Assert.assertEquals("x中😀y\uFFFD", out.toString());
+    }
+
+    private static byte[] decodeBytes(String s, ByteCodec.Format format) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ByteCodec.Decoder decoder = new ByteCodec.Decoder(format, UTF_8, bytes::write);
+        decoder.write(s, 0, s.length());
+        decoder.finish();
+        return bytes.toByteArray();
+    }
+
+    private static String randomText(Random random, int len) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < len; i++) {
+            switch (random.nextInt(4)) {
+                case 0 -> sb.append((char) (' ' + random.nextInt(95)));
+                case 1 -> sb.append((char) (0x4e00 + random.nextInt(0x5000)));
+                case 2 -> sb.appendCodePoint(0x1f600 + random.nextInt(64));
+                default -> sb.append((char) (0xa0 + random.nextInt(0x100)));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -1,8 +1,15 @@
 package guobao.plugin.converter;
 
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
 
 public class CaseTest {
 
@@ -59,4 +66,431 @@ public class CaseTest {
         String out = Case.toOriginalTokens(in, cfg, ":::");
         Assert.assertEquals("a:::HTTPServer", out);
     }
+
+    @Test
+    public void testTokenizeIntoReusableBuffer() {
+        Case.TokenBuffer tokens = new Case.TokenBuffer(1);
+        // 只对中间的区间分词，返回的是源字符串中的绝对位置
+        String in = "##myHTTPServer##";
+        int n = Case.tokenize(in, 2, 12, Case.TokenizerConfig.defaults(), tokens);
+        Assert.assertEquals(3, n);
+        Assert.assertEquals("my", in.substring(tokens.start(0), tokens.end(0)));
+        Assert.assertEquals("HTTP", in.substring(tokens.start(1), tokens.end(1)));
+        Assert.assertEquals("Server", in.substring(tokens.start(2), tokens.end(2)));
+
+        // 复用同一个缓冲区，超出初始容量时自动扩容
+        StringBuilder many = new StringBuilder();
+        for (int i = 0; i < 100; i++) many.append("w_");
+        Assert.assertEquals(100, Case.tokenize(many, 0, many.length(), null, tokens));
+        Assert.assertEquals(198, tokens.start(99));
+        Assert.assertEquals(0, Case.tokenize("__", 0, 2, null, tokens));
+    }
+
+    @Test
+    public void testDelimiterTrieFullCharRange() {
+        // U+013A 'ĺ' 与 ':'(0x3A) 的低 8 位相同，不能被当作分隔符
+        Case.TokenizerConfig colon = new Case.TokenizerConfig.Builder().delimiters(":").build();
+        Assert.assertEquals("aĺb_c", Case.toSnakeCase("aĺb:c", colon, false));
+
+        // 非 Latin-1 的分隔符
+        Case.TokenizerConfig cjk = new Case.TokenizerConfig.Builder().delimiters("的", "→").build();
+        Assert.assertEquals("用户_名称_value", Case.toSnakeCase("用户的名称→value", cjk, false));
+    }
+
+    @Test
+    public void testDelimiterTrieLongestMatch() {
+        Case.DelimiterTrie trie = new Case.DelimiterTrie(Arrays.asList("::", ":::", "->", "-", "::", "", null));
+        Assert.assertEquals(3, trie.longestMatch("a:::b", 1, 5));
+        Assert.assertEquals(2, trie.longestMatch("a::b", 1, 4));
+        Assert.assertEquals(2, trie.longestMatch("->", 0, 2));
+        Assert.assertEquals(1, trie.longestMatch("-x", 0, 2));
+        Assert.assertEquals(0, trie.longestMatch(":x", 0, 2));
+        // end 之后的字符不参与匹配
+        Assert.assertEquals(2, trie.longestMatch(":::", 0, 2));
+        // 根节点 + ':' '::' ':::' + '-' '->'
+        Assert.assertEquals(6, trie.nodeCount());
+    }
+
+    @Test
+    public void testCharClassMatchesCharacter() {
+        // 查表结果（含非 ASCII 的回退路径）必须与 Character 完全一致，分词结果才不会变化
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            char ch = (char) c;
+            int cls = Case.charClass(ch);
+            String at = "U+" + Integer.toHexString(c);
+            Assert.assertEquals(at, Character.isLetterOrDigit(ch), (cls & Case.ALNUM) != 0);
+            Assert.assertEquals(at, Character.isUpperCase(ch), (cls & Case.UPPER) != 0);
+            Assert.assertEquals(at, Character.isLowerCase(ch), (cls & Case.LOWER) != 0);
+            Assert.assertEquals(at, Character.isDigit(ch), (cls & Case.DIGIT) != 0);
+            Assert.assertEquals(at, Character.isLetter(ch), (cls & Case.LETTER) != 0);
+        }
+    }
+
+    @Test
+    public void testAsciiBoundaries() {
+        Case.TokenizerConfig caseOnly = new Case.TokenizerConfig.Builder().rules(Case.SplitRule.CASE).build();
+        Case.TokenizerConfig noContinuous = new Case.TokenizerConfig.Builder().splitUpperContinuous(false).build();
+
+        Assert.assertEquals("my_http_server_2_go", Case.toSnakeCase("myHTTPServer2Go", Case.TokenizerConfig.defaults(), false));
+        Assert.assertEquals("my_http_server2go", Case.toSnakeCase("myHTTPServer2Go", caseOnly, false)); // 数字后的大写不是大小写边界
+        Assert.assertEquals("my_httpserver_2_go", Case.toSnakeCase("myHTTPServer2Go", noContinuous, false));
+        Assert.assertEquals("APP_NAME_V_2", Case.toSnakeCase("app_name_v2", Case.TokenizerConfig.defaults(), true));
+        Assert.assertEquals("xmlHttpRequest", Case.toCamelCase("XML_HTTP-request", Case.TokenizerConfig.defaults(), false, false));
+        Assert.assertEquals("XmlHttpREQUEST", Case.toCamelCase("xml http REQUEST", Case.TokenizerConfig.defaults(), true, true));
+        Assert.assertEquals("a/b/c", Case.toPathCase("A.B.C"));
+        Assert.assertEquals("", Case.toSnakeCase("", false));
+        Assert.assertEquals("__", Case.toSnakeCase("__", false));
+    }
+
+    @Test
+    public void testConvertMatchesLegacyApi() {
+        Case.TokenizerConfig cfg = Case.TokenizerConfig.defaults();
+        for (String in : Arrays.asList("myHTTPServer2Go", "app_name", "XML-http request", "__", "")) {
+            Assert.assertEquals(Case.toSnakeCase(in, cfg, false), Case.convert(in, Case.Style.SNAKE, cfg));
+            Assert.assertEquals(Case.toSnakeCase(in, cfg, true), Case.convert(in, Case.Style.CONSTANT, cfg));
+            Assert.assertEquals(Case.toCamelCase(in), Case.convert(in, Case.Style.CAMEL, cfg));
+            Assert.assertEquals(Case.toPascalCase(in), Case.convert(in, Case.Style.PASCAL, cfg));
+            Assert.assertEquals(Case.toKebabCase(in), Case.convert(in, Case.Style.KEBAB, cfg));
+            Assert.assertEquals(Case.toChainCase(in), Case.convert(in, Case.Style.CHAIN, cfg));
+            Assert.assertEquals(Case.toPathCase(in), Case.convert(in, Case.Style.PATH, cfg));
+            Assert.assertEquals(Case.toSpaceCase(in), Case.convert(in, Case.Style.SPACE, cfg));
+        }
+        Assert.assertEquals(Case.Style.KEBAB, Case.Style.of("kebab"));
+        Assert.assertNull(Case.Style.of("upper"));
+    }
+
+    @Test
+    public void testConvertAllKeepsOrder() {
+        Assert.assertEquals(Arrays.asList("app_name", null, "ok_button"),
+                Case.convertAll(Arrays.asList("appName", null, new StringBuilder("OKButton")), Case.Style.SNAKE, null));
+
+        // 超过阈值时走并行路径，结果顺序必须与输入一致
+        int n = Case.PARALLEL_THRESHOLD * 3 + 7;
+        List<String> in = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) in.add("key" + i + "Value");
+        List<String> out = Case.convertAll(in, Case.Style.CONSTANT, Case.TokenizerConfig.defaults());
+        Assert.assertEquals(n, out.size());
+        for (int i = 0; i < n; i++) Assert.assertEquals("KEY_" + i + "_VALUE", out.get(i));
+    }
+
+    @Test
+    public void testUnicodeTableData() {
+        // 各 Unicode 版本间不变的字符，与运行测试的 JDK 无关
+        final int latin = Case.ALNUM | Case.LETTER | Case.SCRIPT_LATIN;
+        Assert.assertEquals(latin | Case.LOWER, tableClass('\u00e9'));
+        Assert.assertEquals(latin | Case.UPPER, tableClass('\u00c4'));
+        Assert.assertEquals(latin | Case.LOWER, tableClass('\u03b1'));
+        Assert.assertEquals(Case.ALNUM | Case.LETTER | Case.SCRIPT_HAN, tableClass('\u4e2d'));
+        Assert.assertEquals(Case.ALNUM | Case.LETTER | Case.SCRIPT_KANA, tableClass('\u3042'));
+        Assert.assertEquals(Case.ALNUM | Case.LETTER | Case.SCRIPT_HANGUL, tableClass('\ud55c'));
+        Assert.assertEquals(Case.ALNUM | Case.DIGIT, tableClass('\u0663'));
+        Assert.assertEquals(Case.SYMBOL, tableClass('\u20ac'));
+        Assert.assertEquals(Case.SYMBOL, tableClass('\u00d7'));
+        Assert.assertEquals(0, tableClass('\u3000'));
+        Assert.assertEquals(0, tableClass('\u3001'));
+        for (char c : new char[]{'\u00e9', '\u4e2d', '\u3042', '\ud55c', '\u20ac', '\u00d7'}) {
+            Assert.assertEquals(tableClass(c) & Case.EXT_MASK, Case.symbolClass(c));
+        }
+
+        // 整张表只在生成时所用版本的 JDK 上比较，不一致时运行 UnicodeTableGenerator 重新生成
+        Assume.assumeTrue(Runtime.version().feature() == UnicodeTableData.JDK_VERSION);
+        String[] table = UnicodeTableGenerator.build();
+        Assert.assertEquals(table[0], UnicodeTableData.INDEX);
+        Assert.assertEquals(table[1], UnicodeTableData.DATA);
+    }
+
+    /** 直接读取预生成的类别表 */
+    private static int tableClass(char c) {
+        return UnicodeTableData.DATA.charAt(UnicodeTableData.INDEX.charAt(c >>> UnicodeTableData.BLOCK_SHIFT)
+                + (c & (UnicodeTableData.BLOCK_SIZE - 1)));
+    }
+
+    @Test
+    public void testIdentifierRewriter() throws Exception {
+        IdentifierRewriter rw = new IdentifierRewriter(Case.Style.SNAKE, Case.TokenizerConfig.defaults(), true);
+        StringBuilder out = new StringBuilder();
+        Assert.assertEquals(3, rw.rewrite("int myValue = getValue(\"someText\", 0x1Fu, 1.5e3f) + _httpCode;", out));
+        Assert.assertEquals("int my_value = get_value(\"someText\", 0x1Fu, 1.5e3f) + _http_code;", out.toString());
+
+        out.setLength(0);
+        new IdentifierRewriter(Case.Style.CONSTANT, null, false).rewrite("a.b['keyName'] = __initValue__", out);
+        Assert.assertEquals("A.B['KEY_NAME'] = __INIT_VALUE__", out.toString());
+
+        // 按块读取时，跨越块边界的标识符、数字与字符串必须与整段转换的结果一致
+        StringBuilder doc = new StringBuilder();
+        for (int i = 0; doc.length() < IdentifierRewriter.CHUNK_SIZE * 3; i++) {
+            doc.append("someValue").append(i).append(" = \"quotedText").append(i).append("\"; 12.5e").append(i % 7).append(" XMLHttpRequest\n");
+        }
+        StringBuilder expected = new StringBuilder();
+        rw.rewrite(doc, expected);
+        StringWriter writer = new StringWriter();
+        int count = rw.rewrite(new StringReader(doc.toString()), writer);
+        Assert.assertEquals(expected.toString(), writer.toString());
+        Assert.assertEquals(rw.changedCount(), count);
+
+        // 只收集替换位置，从后往前应用后与直接输出的结果一致
+        IdentifierRenamer.Edits edits = rw.find(doc, 0, doc.length());
+        Assert.assertEquals(count, edits.count());
+        StringBuilder applied = new StringBuilder(doc);
+        for (int i = edits.count() - 1; i >= 0; i--) {
+            applied.replace(edits.start(i), edits.end(i), edits.replacement(i));
+        }
+        Assert.assertEquals(expected.toString(), applied.toString());
+    }
+
+    @Test
+    public void testAppendOverloads() throws Exception {
+        Case.TokenizerConfig cfg = Case.TokenizerConfig.defaults();
+        String src = "[myHTTPServer]";
+        StringBuilder sb = new StringBuilder("x=");
+        Case.toSnakeCase(src, 1, 12, cfg, true, sb).append(';');
+        Case.toCamelCase(src, 1, 12, cfg, true, true, sb).append(';');
+        Case.defaultCase("-", src, 1, 12, cfg, sb).append(';');
+        Case.toOriginalTokens(src, 1, 12, cfg, ".", sb).append(';');
+        Case.convert(src, 1, 12, Case.Style.PATH, cfg, sb);
+        Assert.assertEquals("x=MY_HTTP_SERVER;MyHTTPServer;my-http-server;my.HTTP.Server;my/http/server", sb.toString());
+
+        // 非 StringBuilder 的 Appendable
+        StringWriter writer = new StringWriter();
+        Case.convert("appName", 0, 7, Case.Style.KEBAB, cfg, writer);
+        Case.toSnakeCase("--", 0, 2, cfg, false, writer);
+        Assert.assertEquals("app-name--", writer.toString());
+
+        for (String in : new String[]{"myHTTPServer", "user_id2", "XMLHttpRequest"}) {
+            Assert.assertEquals(Case.toSnakeCase(in, cfg, false), Case.toSnakeCase(in, 0, in.length(), cfg, false, new StringBuilder()).toString());
+            Assert.assertEquals(Case.toCamelCase(in, cfg, false, true), Case.toCamelCase(in, 0, in.length(), cfg, false, true, new StringBuilder()).toString());
+        }
+    }
+
+    @Test
+    public void testConvertEachMatchesConvert() {
+        Case.TokenizerConfig cfg = Case.withExtraDelimiter("::", Case.RuleSet.none());
+        Case.Style[] styles = Case.Style.values();
+        for (String in : new String[]{"myHTTPServer", "Foo::barBaz", "user_id2", "--", ""}) {
+            String[] all = Case.convertEach(in, cfg, styles);
+            Assert.assertEquals(styles.length, all.length);
+            for (int i = 0; i < styles.length; i++) {
+                Assert.assertEquals(Case.convert(in, styles[i], cfg), all[i]);
+            }
+        }
+        Assert.assertNull(Case.convertEach(null, cfg, Case.Style.SNAKE)[0]);
+    }
+
+    @Test
+    public void testIdentifierRenamer() {
+        String text = "int maxSize = 1; maxSizeLimit = maxSize + minSize2; // maxSize\nx.maxSize = \"minSize2\";";
+        IdentifierRenamer renamer = new IdentifierRenamer(Case.Style.CONSTANT, null);
+        // 选中 "maxSize = 1; maxSizeLimit"，收录 maxSize 与 maxSizeLimit，全文中的同名标识符都会被替换
+        int from = text.indexOf("maxSize"), to = text.indexOf(" = maxSize");
+        Assert.assertEquals(2, renamer.collect(text, from, to));
+
+        IdentifierRenamer.Edits edits = renamer.find(text, 0, text.length());
+        StringBuilder sb = new StringBuilder(text);
+        for (int i = edits.count() - 1; i >= 0; i--) {
+            sb.replace(edits.start(i), edits.end(i), edits.replacement(i));
+        }
+        Assert.assertEquals("int MAX_SIZE = 1; MAX_SIZE_LIMIT = MAX_SIZE + minSize2; // MAX_SIZE\nx.MAX_SIZE = \"minSize2\";", sb.toString());
+
+        // 表扩容后仍能找到所有标识符
+        StringBuilder many = new StringBuilder();
+        for (int i = 0; i < 500; i++) many.append("someKey").append(i).append("Name ");
+        renamer = new IdentifierRenamer(Case.Style.SNAKE, null);
+        Assert.assertEquals(500, renamer.collect(many, 0, many.length()));
+        edits = renamer.find(many, 0, many.length());
+        Assert.assertEquals(500, edits.count());
+        Assert.assertEquals("some_key_499_name", edits.replacement(499));
+    }
+
+    @Test
+    public void testDetectStyle() {
+        Assert.assertEquals(Case.Style.SNAKE, Case.detectStyle("app_name2"));
+        Assert.assertEquals(Case.Style.CONSTANT, Case.detectStyle("MAX_SIZE"));
+        Assert.assertEquals(Case.Style.CAMEL, Case.detectStyle("myHTTPServer"));
+        Assert.assertEquals(Case.Style.PASCAL, Case.detectStyle("HttpServer"));
+        Assert.assertEquals(Case.Style.KEBAB, Case.detectStyle("ok-button"));
+        Assert.assertEquals(Case.Style.CHAIN, Case.detectStyle("a.b.c"));
+        Assert.assertEquals(Case.Style.PATH, Case.detectStyle("res/values"));
+        Assert.assertEquals(Case.Style.SPACE, Case.detectStyle("hello world"));
+        Assert.assertEquals(Case.Style.SNAKE, Case.detectStyle("value"));
+        Assert.assertNull(Case.detectStyle("app_Name"));
+        Assert.assertNull(Case.detectStyle("app_name-2"));
+        Assert.assertNull(Case.detectStyle("_private"));
+        Assert.assertNull(Case.detectStyle("a__b"));
+        Assert.assertNull(Case.detectStyle("名称"));
+        Assert.assertNull(Case.detectStyle(""));
+    }
+
+    @Test
+    public void testInStyleShortCircuit() {
+        // 已经是目标风格时返回同一个实例
+        String snake = "app_name";
+        Assert.assertSame(snake, Case.convert(snake, Case.Style.SNAKE, null));
+        String pascal = "MyHttpServer";
+        Assert.assertSame(pascal, Case.convert(pascal, Case.Style.PASCAL, null));
+        String constant = "MAX_SIZE";
+        Assert.assertSame(constant, Case.convert(constant, Case.Style.CONSTANT, null));
+        Assert.assertEquals("v_2", Case.convert("v2", Case.Style.SNAKE, null));
+
+        // 跳过转换的结果必须与完整转换一致
+        Case.TokenizerConfig[] cfgs = {
+                Case.TokenizerConfig.defaults(),
+                new Case.TokenizerConfig.Builder().rules(Case.SplitRule.CASE).build(),
+                new Case.TokenizerConfig.Builder().rules(Case.RuleSet.none()).build(),
+                new Case.TokenizerConfig.Builder().splitUpperContinuous(true).build()
+        };
+        String alphabet = "aabBZ19_-./ ";
+        Random rnd = new Random(42);
+        for (int n = 0; n < 20000; n++) {
+            char[] cs = new char[1 + rnd.nextInt(8)];
+            for (int i = 0; i < cs.length; i++) cs[i] = alphabet.charAt(rnd.nextInt(alphabet.length()));
+            String in = new String(cs);
+            for (Case.TokenizerConfig cfg : cfgs) {
+                Assert.assertEquals(in, Case.toSnakeCase(in, cfg, false), Case.convert(in, Case.Style.SNAKE, cfg));
+                Assert.assertEquals(in, Case.toSnakeCase(in, cfg, true), Case.convert(in, Case.Style.CONSTANT, cfg));
+                Assert.assertEquals(in, Case.toCamelCase(in, cfg, false, true), Case.convert(in, Case.Style.CAMEL, cfg));
+                Assert.assertEquals(in, Case.toCamelCase(in, cfg, true, true), Case.convert(in, Case.Style.PASCAL, cfg));
+                Assert.assertEquals(in, Case.defaultCase("-", in, cfg), Case.convert(in, Case.Style.KEBAB, cfg));
+                Assert.assertEquals(in, Case.defaultCase(" ", in, cfg), Case.convert(in, Case.Style.SPACE, cfg));
+            }
+        }
+    }
+
+    @Test
+    public void testSymbolRule() {
+        Case.TokenizerConfig cfg = new Case.TokenizerConfig.Builder()
+                .rules(Case.SplitRule.CASE, Case.SplitRule.NUMBER, Case.SplitRule.SYMBOL)
+                .build();
+        // 不同文字相邻时切分，同一文字内不切分
+        Assert.assertEquals("用户_name", Case.toSnakeCase("用户Name", cfg, false));
+        Assert.assertEquals("ログイン_button", Case.toSnakeCase("ログインButton", cfg, false));
+        Assert.assertEquals("東京_タワー", Case.toSnakeCase("東京タワー", cfg, false));
+        Assert.assertEquals("错误码_404_message", Case.toSnakeCase("错误码404Message", cfg, false));
+        // 符号单独成词，标点仍是分隔符
+        Assert.assertEquals("温度_°_c", Case.toSnakeCase("温度°C", cfg, false));
+        Assert.assertEquals("price_€_100", Case.toSnakeCase("price€100", cfg, false));
+        Assert.assertEquals("a_+_b_c", Case.toSnakeCase("a+b,c", cfg, false));
+        // 增补平面字符作为整体处理
+        Assert.assertEquals("ok_\uD83D\uDC4D_done", Case.toSnakeCase("ok\uD83D\uDC4Ddone", cfg, false));
+        Assert.assertEquals("名\uD840\uDC0B_x", Case.toSnakeCase("名\uD840\uDC0Bx", cfg, false));
+
+        // 未启用 SYMBOL 时保持原有行为
+        Assert.assertEquals("用户name", Case.toSnakeCase("用户Name", Case.TokenizerConfig.defaults(), false));
+        Assert.assertEquals("ok_done", Case.toSnakeCase("ok\uD83D\uDC4Ddone", Case.TokenizerConfig.defaults(), false));
+
+        // 分隔符之后的片段可以禁用 SYMBOL 规则
+        Case.TokenizerConfig protect = new Case.TokenizerConfig.Builder()
+                .rules(Case.SplitRule.SYMBOL)
+                .delimiters("::")
+                .protectedRules(Case.SplitRule.SYMBOL)
+                .build();
+        Assert.assertEquals("用户_name_用户name", Case.toSnakeCase("用户Name::用户Name", protect, false));
+    }
+
+    @Test
+    public void testSymbolClassMatchesCharacter() {
+        for (char c = 0; c < 0xFFFF; c++) {
+            if (Character.isSurrogate(c)) continue;
+            int type = Character.getType(c);
+            boolean symbol = type == Character.MATH_SYMBOL || type == Character.CURRENCY_SYMBOL
+                    || type == Character.MODIFIER_SYMBOL || type == Character.OTHER_SYMBOL;
+            int ext = Case.symbolClass(c);
+            Assert.assertEquals("U+" + Integer.toHexString(c), symbol, (ext & Case.SYMBOL) != 0);
+            Assert.assertEquals("U+" + Integer.toHexString(c), Character.isLetter(c), (ext & Case.SCRIPT_MASK) != 0);
+        }
+    }
+
+    @Test
+    public void testCaseMapper() {
+        Locale saved = Locale.getDefault();
+        try {
+            // 土耳其语环境下结果不变
+            Locale.setDefault(new Locale("tr", "TR"));
+            Assert.assertEquals("TITLE ID", CaseMapper.toUpper("title id"));
+            Assert.assertEquals("title id", CaseMapper.toLower("TITLE ID"));
+            Assert.assertEquals("my_title_id", Case.toSnakeCase("myTitleID", Case.TokenizerConfig.defaults(), false));
+        } finally {
+            Locale.setDefault(saved);
+        }
+        // 没有变化时返回原字符串
+        String upper = "ABC 123 汉字";
+        Assert.assertSame(upper, CaseMapper.toUpper(upper));
+        Assert.assertEquals("STRASSE", CaseMapper.toUpper("straße"));
+        Assert.assertEquals("hELLO wORLD SS", CaseMapper.swapCase("Hello World ß"));
+        Assert.assertEquals("Hello World Don't 2nd ǅ", CaseMapper.toTitle("hELLO world don't 2ND ǆ"));
+
+        // 增补平面字符：𐐨 (U+10428) <-> 𐐀 (U+10400)
+        Assert.assertEquals("\uD801\uDC00A", CaseMapper.toUpper("\uD801\uDC28a"));
+        Assert.assertEquals("\uD801\uDC28a", CaseMapper.swapCase("\uD801\uDC00A"));
+        Assert.assertEquals("b\uD83D\uDE00a", CaseMapper.reverse("a\uD83D\uDE00b"));
+
+        // 区间版本追加到同一个缓冲区
+        StringBuilder sb = new StringBuilder();
+        CaseMapper.toUpper("[abc]", 1, 4, sb);
+        CaseMapper.reverse("[abc]", 1, 4, sb);
+        Assert.assertEquals("ABCcba", sb.toString());
+    }
+
+    @Test
+    public void testCaseCache() {
+        CaseCache cache = new CaseCache(1024);
+        Case.TokenizerConfig cfg = new Case.TokenizerConfig.Builder().rules(Case.SplitRule.CASE).build();
+        Assert.assertEquals("app_name", cache.convert("appName", Case.Style.SNAKE, cfg));
+        Assert.assertEquals("app_name", cache.convert("appName", Case.Style.SNAKE, cfg));
+        // 内容相同的配置视为同一个键
+        Case.TokenizerConfig same = new Case.TokenizerConfig.Builder().rules(Case.SplitRule.CASE).build();
+        Assert.assertEquals(cfg, same);
+        Assert.assertEquals(cfg.hashCode(), same.hashCode());
+        Assert.assertEquals("app_name", cache.convert("appName", Case.Style.SNAKE, same));
+        Assert.assertEquals(2, cache.hitCount());
+        Assert.assertEquals(1, cache.missCount());
+
+        // 风格与配置不同时不会命中
+        Assert.assertEquals("APP_NAME", cache.convert("appName", Case.Style.CONSTANT, cfg));
+        Case.TokenizerConfig number = Case.TokenizerConfig.defaults();
+        Assert.assertNotEquals(cfg, number);
+        Assert.assertEquals("v_2", cache.convert("v2", Case.Style.SNAKE, number));
+        Assert.assertEquals("v2", cache.convert("v2", Case.Style.SNAKE, cfg));
+        Assert.assertEquals(2, cache.hitCount());
+        Assert.assertEquals(4, cache.missCount());
+
+        // 按字符数淘汰最久未使用的条目
+        for (int i = 0; i < 100; i++) {
+            String s = "someLongIdentifier" + i;
+            Assert.assertEquals(Case.convert(s, Case.Style.KEBAB, cfg), cache.convert(s, Case.Style.KEBAB, cfg));
+            Assert.assertTrue(cache.charCount() <= 1024);
+        }
+        long misses = cache.missCount();
+        cache.convert("appName", Case.Style.SNAKE, cfg);
+        Assert.assertEquals(misses + 1, cache.missCount());
+
+        // 多线程结果与直接转换一致
+        CaseCache shared = new CaseCache(CaseCache.DEFAULT_MAX_CHARS);
+        String[] words = {"appName", "okButton", "cancel", "HTTPServer", "user_id", "max-size"};
+        Thread[] threads = new Thread[4];
+        AssertionError[] failure = new AssertionError[1];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 2000; i++) {
+                        String w = words[i % words.length];
+                        Case.Style style = Case.Style.values()[i % Case.Style.values().length];
+                        Assert.assertEquals(Case.convert(w, style, null), shared.convert(w, style, null));
+                    }
+                } catch (AssertionError e) {
+                    failure[0] = e;
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) {
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        if (failure[0] != null) throw failure[0];
+        Assert.assertEquals(8000, shared.hitCount() + shared.missCount());
+        Assert.assertTrue(shared.size() <= words.length * Case.Style.values().length);
+    }
 }
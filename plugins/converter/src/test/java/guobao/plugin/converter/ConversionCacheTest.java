@@ -0,0 +1,97 @@
+package guobao.plugin.converter;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class ConversionCacheTest {
+
+    @Test
+    public void testHitAndMiss() {
+        ConversionCache cache = new ConversionCache(ConversionCache.DEFAULT_MAX_CHARS);
+        assertNull(cache.get("md_ubb", "ubb", "**bold**"));
+        cache.put("md_ubb", "ubb", "**bold**", "[b]bold[/b]");
+        assertEquals("[b]bold[/b]", cache.get("md_ubb", "ubb", "**bold**"));
+        assertEquals("[b]bold[/b]", cache.get("md_ubb", "ubb", new String("**bold**")));
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(2.0 / 3, cache.hitRatio(), 1e-9);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testKeyIncludesToolAndTarget() {
+        ConversionCache cache = new ConversionCache(ConversionCache.DEFAULT_MAX_CHARS);
+        cache.put("md_ubb", "ubb", "text", "ubb");
+        cache.put("md_ubb", "html", "text", "html");
+        cache.put("case", "ubb", "text", "case");
+        assertEquals("ubb", cache.get("md_ubb", "ubb", "text"));
+        assertEquals("html", cache.get("md_ubb", "html", "text"));
+        assertEquals("case", cache.get("case", "ubb", "text"));
+        assertNull(cache.get("case", "html", "text"));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        // 每个条目 32 + 2 + 2 = 36 字符，容量只够 8 个
+        ConversionCache cache = new ConversionCache(300);
+        for (int i = 1; i <= 8; i++) cache.put("t", "x", "a" + i, "b" + i);
+        assertEquals("b1", cache.get("t", "x", "a1"));
+        cache.put("t", "x", "a9", "b9");
+        assertEquals(8, cache.size());
+        assertNull(cache.get("t", "x", "a2"));
+        assertEquals("b1", cache.get("t", "x", "a1"));
+        assertEquals(288, cache.charCount());
+    }
+
+    @Test
+    public void testSkipsLargeEntries() {
+        ConversionCache cache = new ConversionCache(1024);
+        String large = "x".repeat(200);
+        cache.put("md_ubb", "ubb", large, large);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.charCount());
+    }
+
+    @Test
+    public void testReplaceKeepsCharCount() {
+        ConversionCache cache = new ConversionCache(ConversionCache.DEFAULT_MAX_CHARS);
+        cache.put("t", "x", "abc", "abc");
+        assertEquals(35, cache.charCount());
+        cache.put("t", "x", "abc", "abcdef");
+        assertEquals(41, cache.charCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidateAndClear() {
+        ConversionCache cache = new ConversionCache(ConversionCache.DEFAULT_MAX_CHARS);
+        cache.put("t", "x", "a", "b");
+        cache.get("t", "x", "a");
+        cache.invalidate();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.charCount());
+        assertEquals(1, cache.hitCount());
+        assertNull(cache.get("t", "x", "a"));
+        cache.clear();
+        assertEquals(0, cache.hitCount());
+        assertEquals(0, cache.missCount());
+        assertEquals(0, cache.hitRatio(), 0);
+    }
+
+    @Test
+    public void testVersions() {
+        ConversionCache cache = new ConversionCache(ConversionCache.DEFAULT_MAX_CHARS);
+        assertNull(cache.get(1, "t", "x", "a"));
+        cache.put(1, "t", "x", "a", "b1");
+        assertEquals("b1", cache.get(1, "t", "x", "a"));
+        // 更新的版本丢弃旧结果，之后旧版本的转换结果不再保存
+        assertNull(cache.get(2, "t", "x", "a"));
+        cache.put(1, "t", "x", "a", "b1");
+        assertEquals(0, cache.size());
+        cache.put(2, "t", "x", "a", "b2");
+        // 旧版本的查找不命中，也不会让缓存退回旧版本
+        assertNull(cache.get(1, "t", "x", "a"));
+        assertEquals("b2", cache.get(2, "t", "x", "a"));
+    }
+}
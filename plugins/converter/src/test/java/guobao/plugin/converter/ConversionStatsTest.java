@@ -0,0 +1,81 @@
+package guobao.plugin.converter;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class ConversionStatsTest {
+
+    @Test
+    public void testSampling() {
+        ConversionStats.Entry e = new ConversionStats().entry("case", "snake");
+        int timed = 0;
+        for (int i = 0; i < ConversionStats.SAMPLE_INTERVAL * 4; i++) {
+            if (e.sample()) timed++;
+        }
+        assertEquals(4, timed);
+    }
+
+    @Test
+    public void testEstimatedNanos() {
+        ConversionStats stats = new ConversionStats();
+        ConversionStats.Entry e = stats.entry("case", "snake");
+        e.add(32, 320, 330, 2, 2000);
+        assertEquals(32_000, e.estimatedNanos());
+        assertSame(e, stats.entry("case", "snake"));
+        assertEquals(0, stats.entry("case", "camel").estimatedNanos());
+    }
+
+    @Test
+    public void testEntriesSortedByTime() {
+        ConversionStats stats = new ConversionStats();
+        stats.entry("case", "snake").add(1, 1, 1, 1, 10);
+        stats.entry("md_ubb", "ubb").add(1, 1, 1, 1, 1000);
+        stats.entry("md_ubb", ConversionStats.INIT).add(1, 0, 0, 1, 100);
+        List<ConversionStats.Entry> list = stats.entries();
+        assertEquals("ubb", list.get(0).target);
+        assertEquals(ConversionStats.INIT, list.get(1).target);
+        assertEquals("snake", list.get(2).target);
+    }
+
+    @Test
+    public void testEncodeDecodeMerge() {
+        ConversionStats stats = new ConversionStats();
+        assertTrue(stats.isEmpty());
+        stats.entry("case", "snake").add(3, 30, 33, 1, 100);
+        stats.entry("pipeline", "unicode:decode > case:snake").add(1, 10, 8, 1, 50);
+        assertFalse(stats.isEmpty());
+
+        ConversionStats total = ConversionStats.decode(stats.encode());
+        assertEquals(stats.encode(), total.encode());
+        total.merge(stats);
+        ConversionStats.Entry e = total.entry("case", "snake");
+        assertEquals(6, e.calls());
+        assertEquals(60, e.inChars());
+        assertEquals(66, e.outChars());
+        assertEquals(600, e.estimatedNanos());
+        assertEquals(2, total.entry("pipeline", "unicode:decode > case:snake").calls());
+    }
+
+    @Test
+    public void testDecodeInvalid() {
+        assertTrue(ConversionStats.decode(null).isEmpty());
+        assertTrue(ConversionStats.decode("").isEmpty());
+        ConversionStats stats = ConversionStats.decode("case\tsnake\t1\t2\n"
+                + "case\tcamel\tx\t1\t1\t1\t1\n"
+                + "case\tupper\t2\t4\t4\t1\t10\n");
+        assertEquals(1, stats.entries().size());
+        assertEquals(2, stats.entry("case", "upper").calls());
+    }
+
+    @Test
+    public void testSummary() {
+        ConversionStats stats = new ConversionStats();
+        stats.entry("case", "snake").add(2, 20, 22, 1, 1_500_000);
+        String summary = stats.summary();
+        assertTrue(summary, summary.startsWith("converter stats: 2 calls, time≈3.0ms"));
+        assertTrue(summary, summary.contains("case:snake calls=2 in=20 out=22 time≈3.0ms"));
+    }
+}
@@ -0,0 +1,101 @@
+package guobao.plugin.converter;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import bin.mt.plugin.api.PluginContext;
+
+public class ConverterTest {
+
+    @Test
+    public void testBatchSplitsLineSafeTools() throws Exception {
+        Converter converter = new Converter(TestContexts.create());
+        assertEquals("USERNAME\nITEMCOUNT\nUSERNAME", converter.convertBatch("userName\nitemCount\nuserName", "case", "upper", "\n"));
+        assertEquals(2, converter.stats().entry("case", "upper").calls());
+        assertEquals(1, converter.cache().hitCount());
+    }
+
+    @Test
+    public void testCaseStylesUseCaseCacheOnly() throws Exception {
+        Converter converter = new Converter(TestContexts.create());
+        // 命名风格的结果已由 CaseCache 保存，不再重复保存在会话缓存中
+        assertEquals("user_name\nuser_name", converter.convertBatch("userName\nuserName", "case", "snake", "\n"));
+        assertEquals(0, converter.cache().size());
+
+        Map<String, Object> prefs = new HashMap<>();
+        prefs.put("case_cache", false);
+        converter = new Converter(TestContexts.create(prefs));
+        assertEquals("user_name\nuser_name", converter.convertBatch("userName\nuserName", "case", "snake", "\n"));
+        assertEquals(1, converter.cache().hitCount());
+    }
+
+    @Test
+    public void testSettingsChangedWhileConverting() throws Exception {
+        PluginContext[] context = new PluginContext[1];
+        Map<String, Object> prefs = new HashMap<>() {
+            boolean changed;
+
+            @Override
+            public Object get(Object key) {
+                Object value = super.get(key);
+                // 工具已读取旧设置、转换尚未完成时设置发生变化
+                if (!changed && "unicode_upper".equals(key)) {
+                    changed = true;
+                    TestContexts.set(context[0], "unicode_upper", true);
+                }
+                return value;
+            }
+        };
+        context[0] = TestContexts.create(prefs);
+        Converter converter = new Converter(context[0]);
+        assertEquals("\\u00e9", converter.convert("\u00e9", "unicode", "encode"));
+        // 旧设置下的结果不保存
+        assertEquals(0, converter.cache().size());
+        assertEquals("\\u00E9", converter.convert("\u00e9", "unicode", "encode"));
+        assertEquals("\\u00E9", converter.convert("\u00e9", "unicode", "encode"));
+        assertEquals(1, converter.cache().hitCount());
+    }
+
+    @Test
+    public void testBatchKeepsMultiLineToolsWhole() throws Exception {
+        Converter converter = new Converter(TestContexts.create());
+        String text = "- a\n- b";
+        assertEquals(converter.convert(text, "md_ubb", "ubb"), converter.convertBatch(text, "md_ubb", "ubb", "\n"));
+    }
+
+    @Test
+    public void testBatchSeparatorInResult() throws Exception {
+        Converter converter = new Converter(TestContexts.create());
+        // 解码出换行时改为整段转换，结果与逐段转换后连接相同
+        assertEquals("a\nb\nc", converter.convertBatch("a\\u000ab\nc", "unicode", "decode", "\n"));
+    }
+
+    @Test
+    public void testSettingsChangedWhileReading() throws Exception {
+        PluginContext[] context = new PluginContext[1];
+        Map<String, Object> prefs = new HashMap<>() {
+            boolean changed;
+
+            @Override
+            public Object get(Object key) {
+                // 已读取 split_number 之后、读取完成之前设置发生变化
+                if (!changed && "split_symbol".equals(key)) {
+                    changed = true;
+                    TestContexts.set(context[0], "split_number", true);
+                }
+                return super.get(key);
+            }
+        };
+        context[0] = TestContexts.create(prefs);
+        Converter converter = new Converter(context[0]);
+        // 本次使用读取期间得到的旧设置
+        assertEquals("item2count", Case.convert("item2Count", Case.Style.SNAKE, converter.caseTokenizer()));
+        // 旧设置没有被发布，下次重新读取
+        assertEquals("item_2_count", Case.convert("item2Count", Case.Style.SNAKE, converter.caseTokenizer()));
+        assertEquals(2, converter.stats().entry("case", ConversionStats.CONFIG).calls());
+    }
+}
@@ -0,0 +1,83 @@
+package guobao.plugin.converter;
+
+import android.content.SharedPreferences;
+
+import bin.mt.plugin.api.PluginContext;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单元测试用的 PluginContext：设置保存在内存中，getString 返回键本身
+ */
+public final class TestContexts {
+
+    private TestContexts() {
+    }
+
+    /** 创建使用空设置的 PluginContext */
+    public static PluginContext create() {
+        return create(new HashMap<>());
+    }
+
+    /** 创建读取 prefs 中设置的 PluginContext，不存在的设置返回默认值 */
+    public static PluginContext create(Map<String, Object> prefs) {
+        SharedPreferences sp = (SharedPreferences) Proxy.newProxyInstance(TestContexts.class.getClassLoader(),
+                new Class<?>[]{SharedPreferences.class}, new Prefs(prefs));
+        return (PluginContext) Proxy.newProxyInstance(TestContexts.class.getClassLoader(),
+                new Class<?>[]{PluginContext.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getPreferences" -> sp;
+                    case "getString" -> args[0];
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    /** 修改设置并通知已注册的监听器 */
+    public static void set(PluginContext context, String key, Object value) {
+        SharedPreferences sp = context.getPreferences();
+        Prefs prefs = (Prefs) Proxy.getInvocationHandler(sp);
+        prefs.values.put(key, value);
+        for (SharedPreferences.OnSharedPreferenceChangeListener l : new ArrayList<>(prefs.listeners)) {
+            l.onSharedPreferenceChanged(sp, key);
+        }
+    }
+
+    private static final class Prefs implements InvocationHandler {
+        final Map<String, Object> values;
+        final List<SharedPreferences.OnSharedPreferenceChangeListener> listeners = new ArrayList<>();
+
+        Prefs(Map<String, Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if (name.equals("registerOnSharedPreferenceChangeListener")) {
+                listeners.add((SharedPreferences.OnSharedPreferenceChangeListener) args[0]);
+                return null;
+            }
+            if (name.equals("unregisterOnSharedPreferenceChangeListener")) {
+                listeners.remove(args[0]);
+                return null;
+            }
+            if (name.startsWith("get") && args != null && args.length == 2) {
+                Object v = values.get((String) args[0]);
+                return v != null ? v : args[1];
+            }
+            return defaultValue(method.getReturnType());
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
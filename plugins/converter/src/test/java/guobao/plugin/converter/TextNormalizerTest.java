@@ -0,0 +1,66 @@
+package guobao.plugin.converter;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.text.Normalizer;
+import java.util.Random;
+
+public class TextNormalizerTest {
+
+    @Test
+    public void testNormalize() {
+        String decomposed = "Cafe\u0301";
+        Assert.assertEquals("Café", TextNormalizer.normalize(decomposed, Normalizer.Form.NFC));
+        Assert.assertEquals(decomposed, TextNormalizer.normalize("Café", Normalizer.Form.NFD));
+        Assert.assertEquals("1⁄2 fi", TextNormalizer.normalize("½ ﬁ", Normalizer.Form.NFKC));
+        Assert.assertEquals("ABC 123", TextNormalizer.normalize("ＡＢＣ　１２３", Normalizer.Form.NFKC));
+        // 全角字符只有兼容性分解
+        Assert.assertEquals("ＡＢＣ", TextNormalizer.normalize("ＡＢＣ", Normalizer.Form.NFC));
+        Assert.assertNull(TextNormalizer.normalize(null, Normalizer.Form.NFC));
+    }
+
+    @Test
+    public void testNormalizedReturnsSame() {
+        String[] samples = {"", "plain ascii {\"key\": 1}", "中文，标点。", "Café naïve", "한국어", "😀 emoji"};
+        for (String s : samples) {
+            for (Normalizer.Form form : Normalizer.Form.values()) {
+                if (!Normalizer.isNormalized(s, form)) continue;
+                Assert.assertSame(s + " " + form, s, TextNormalizer.normalize(s, form));
+            }
+        }
+    }
+
+    @Test
+    public void testAgainstNormalizer() {
+        Random random = new Random(22);
+        // 容易出错的字符：组合符号、预组合字母、谚文字母与音节、兼容性字符、代理对
+        char[] pool = {'a', 'e', 'A', ' ', '\u00e9', '\u00c5', '\u00a0', '\u00bd', '\u0301', '\u030a', '\u0323', '\u0327',
+                '\u1100', '\u1161', '\u11a8', '\uac00', '\u4e2d', '\u3000', '\u3001', '\u309b', '\u3099', '\u304b',
+                '\uff21', '\uff0c', '\ufb01', '\u212b', '\u2126', '\ud83d', '\ude00'};
+        for (int n = 0; n < 5000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int len = random.nextInt(12);
+            for (int i = 0; i < len; i++) sb.append(pool[random.nextInt(pool.length)]);
+            String s = sb.toString();
+            for (Normalizer.Form form : Normalizer.Form.values()) {
+                String expected = Normalizer.normalize(s, form);
+                Assert.assertEquals(s + " " + form, expected, TextNormalizer.normalize(s, form));
+                StringBuilder out = new StringBuilder("x");
+                TextNormalizer.normalize("<" + s + ">", 1, s.length() + 1, form, out);
+                Assert.assertEquals(s + " " + form, "x" + expected, out.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testWidth() {
+        Assert.assertEquals("ABC 123!~", TextNormalizer.toHalfWidth("ＡＢＣ　１２３！～"));
+        Assert.assertEquals("ＡＢＣ　１２３！～", TextNormalizer.toFullWidth("ABC 123!~"));
+        Assert.assertEquals("中文,", TextNormalizer.toHalfWidth("中文，"));
+        String same = "中文";
+        Assert.assertSame(same, TextNormalizer.toHalfWidth(same));
+        Assert.assertSame(same, TextNormalizer.toFullWidth(same));
+        Assert.assertEquals("x(a b)", TextNormalizer.toHalfWidth("（ａ　ｂ）", 0, 5, new StringBuilder("x")).toString());
+        Assert.assertEquals("x（ａ　ｂ）", TextNormalizer.toFullWidth("(a b)", 0, 5, new StringBuilder("x")).toString());
+    }
+}
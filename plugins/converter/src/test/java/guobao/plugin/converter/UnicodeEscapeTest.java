@@ -0,0 +1,128 @@
+package guobao.plugin.converter;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class UnicodeEscapeTest {
+
+    /** 旧实现，用于对比默认输出 */
+    private static String legacyEncode(String str) {
+        return str.chars()
+                .mapToObj(c -> c < 128 ? String.valueOf((char) c) : String.format("\\u%04x", c))
+                .collect(Collectors.joining());
+    }
+
+    private static final Pattern UNICODE_PATTERN = Pattern.compile("\\\\u([0-9a-fA-F]{4})");
+
+    /** 旧的正则解码实现，用于对比默认解码 */
+    private static String legacyDecode(String str) {
+        Matcher m = UNICODE_PATTERN.matcher(str);
+        StringBuffer sb = new StringBuffer();
+        while (m.find()) {
+            String ch = new String(Character.toChars(Integer.parseInt(m.group(1), 16)));
+            m.appendReplacement(sb, Matcher.quoteReplacement(ch));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+    @Test
+    public void testEncodeDefault() {
+        Assert.assertEquals("\\u4e2d\\u6587 ok", UnicodeEscape.encode("中文 ok", 0));
+        Assert.assertEquals("\\u00e9\\ud83d\\ude00", UnicodeEscape.encode("é😀", 0));
+        // 不需要转义时返回原字符串
+        String ascii = "plain {\"key\": 1}";
+        Assert.assertSame(ascii, UnicodeEscape.encode(ascii, 0));
+        Assert.assertNull(UnicodeEscape.encode(null, 0));
+        Assert.assertEquals("", UnicodeEscape.encode("", 0));
+    }
+
+    @Test
+    public void testEncodeOptions() {
+        Assert.assertEquals("\\u00E9\\uD83D\\uDE00", UnicodeEscape.encode("é😀", UnicodeEscape.UPPER_CASE));
+        Assert.assertEquals("é\\u4e2d", UnicodeEscape.encode("é中", UnicodeEscape.KEEP_LATIN1));
+        Assert.assertEquals("\\u00e9\\U0001f600", UnicodeEscape.encode("é😀", UnicodeEscape.SUPPLEMENTARY_LONG));
+        Assert.assertEquals("é\\U0001F600",
+                UnicodeEscape.encode("é😀", UnicodeEscape.KEEP_LATIN1 | UnicodeEscape.SUPPLEMENTARY_LONG | UnicodeEscape.UPPER_CASE));
+        // 孤立的代理字符仍按单个字符输出
+        Assert.assertEquals("\\ud83d!\\ude00", UnicodeEscape.encode("\uD83D!\uDE00", UnicodeEscape.SUPPLEMENTARY_LONG));
+
+        StringBuilder sb = new StringBuilder("> ");
+        UnicodeEscape.encode("[中😀]", 1, 4, UnicodeEscape.SUPPLEMENTARY_LONG, sb);
+        Assert.assertEquals("> \\u4e2d\\U0001f600", sb.toString());
+    }
+
+    @Test
+    public void testEncodeMatchesLegacy() {
+        Random r = new Random(42);
+        for (int n = 0; n < 2000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int len = r.nextInt(20);
+            for (int i = 0; i < len; i++) {
+                switch (r.nextInt(4)) {
+                    case 0 -> sb.append((char) r.nextInt(128));
+                    case 1 -> sb.append((char) (0x80 + r.nextInt(0x180)));
+                    case 2 -> sb.append((char) r.nextInt(0x10000));
+                    default -> sb.appendCodePoint(0x10000 + r.nextInt(0x100000));
+                }
+            }
+            String s = sb.toString();
+            String expected = legacyEncode(s);
+            Assert.assertEquals(expected, UnicodeEscape.encode(s, 0));
+            Assert.assertEquals(expected, UnicodeEscape.encode(s, 0, s.length(), 0, new StringBuilder()).toString());
+        }
+    }
+
+    @Test
+    public void testDecode() {
+        Assert.assertEquals("中文 ok", UnicodeEscape.decode("\\u4e2d\\u6587 ok", 0));
+        // 代理对还原为一个增补平面字符
+        Assert.assertEquals("😀", UnicodeEscape.decode("\\uD83D\\uDE00", 0));
+        String plain = "no escapes & here";
+        Assert.assertSame(plain, UnicodeEscape.decode(plain, UnicodeEscape.DECODE_HTML));
+        Assert.assertNull(UnicodeEscape.decode(null, 0));
+
+        // 格式不完整的序列原样保留
+        Assert.assertEquals("\\u12G4 \\u12 \\q \\", UnicodeEscape.decode("\\u12G4 \\u12 \\q \\", 0));
+        // 未开启的格式不解码
+        Assert.assertEquals("\\U0001f600 \\x41 &#x41;", UnicodeEscape.decode("\\U0001f600 \\x41 &#x41;", 0));
+
+        int all = UnicodeEscape.DECODE_LONG | UnicodeEscape.DECODE_HEX | UnicodeEscape.DECODE_HTML;
+        Assert.assertEquals("😀 A é 中 😀 & &#; &#x; &#x41 &#xG;",
+                UnicodeEscape.decode("\\U0001F600 \\x41 \\xe9 &#x4e2d; &#128512; & &#; &#x; &#x41 &#xG;", all));
+        // 超出 Unicode 范围
+        Assert.assertEquals("\\U00110000 &#x110000; &#99999999;", UnicodeEscape.decode("\\U00110000 &#x110000; &#99999999;", all));
+
+        StringBuilder sb = new StringBuilder("> ");
+        UnicodeEscape.decode("[\\u4e2d]", 1, 7, 0, sb);
+        Assert.assertEquals("> 中", sb.toString());
+    }
+
+    @Test
+    public void testDecodeMatchesLegacy() {
+        Random r = new Random(7);
+        String alphabet = "\\u0aF9Gx;&#";
+        for (int n = 0; n < 5000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int len = r.nextInt(24);
+            for (int i = 0; i < len; i++) {
+                if (r.nextInt(6) == 0) sb.append(UnicodeEscape.encode(String.valueOf((char) r.nextInt(0x10000)), 0));
+                else sb.append(alphabet.charAt(r.nextInt(alphabet.length())));
+            }
+            String s = sb.toString();
+            Assert.assertEquals(s, legacyDecode(s), UnicodeEscape.decode(s, 0));
+        }
+        // 编码后再解码得到原文
+        for (int n = 0; n < 500; n++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 16; i++) sb.appendCodePoint(r.nextInt(4) == 0 ? 0x10000 + r.nextInt(0x100000) : r.nextInt(0xD800));
+            String s = sb.toString();
+            Assert.assertEquals(s, UnicodeEscape.decode(UnicodeEscape.encode(s, 0), 0));
+            Assert.assertEquals(s, UnicodeEscape.decode(UnicodeEscape.encode(s, UnicodeEscape.SUPPLEMENTARY_LONG | UnicodeEscape.UPPER_CASE), UnicodeEscape.DECODE_LONG));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package guobao.plugin.converter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 生成 {@link UnicodeTableData}：按 {@link Case#fullClass(int)} 对全部 BMP 字符分类，
+ * 每 {@value UnicodeTableData#BLOCK_SIZE} 个字符为一块，内容相同的块只保存一份。
+ *
+ * <p>表固定为生成时所用 JDK 的 Unicode 版本（记录在 {@link UnicodeTableData#JDK_VERSION}），不随运行测试的 JDK 变化；
+ * {@code CaseTest} 只在相同版本的 JDK 上比较整张表，其他版本只检查各版本间不变的固定字符。
+ * 需要更新 Unicode 版本时，用新的 JDK 运行 {@code main} 重新生成。
+ *
+ * <pre>
+ * java guobao.plugin.converter.UnicodeTableGenerator src/main/java/guobao/plugin/converter/UnicodeTableData.java
+ * </pre>
+ */
+public final class UnicodeTableGenerator {
+
+    private UnicodeTableGenerator() {}
+
+    /** 构建两级表，返回 {INDEX, DATA} */
+    static String[] build() {
+        final int blockSize = UnicodeTableData.BLOCK_SIZE;
+        Map<String, Integer> blocks = new HashMap<>();
+        char[] index = new char[0x10000 / blockSize];
+        StringBuilder data = new StringBuilder();
+        char[] block = new char[blockSize];
+        for (int b = 0; b < index.length; b++) {
+            for (int i = 0; i < blockSize; i++) block[i] = (char) Case.fullClass(b * blockSize + i);
+            String key = new String(block);
+            Integer offset = blocks.get(key);
+            if (offset == null) {
+                offset = data.length();
+                blocks.put(key, offset);
+                data.append(block);
+            }
+            index[b] = (char) (int) offset;
+        }
+        return new String[]{new String(index), data.toString()};
+    }
+
+    public static void main(String[] args) throws IOException {
+        String[] table = build();
+        try (PrintWriter out = new PrintWriter(new File(args[0]), StandardCharsets.UTF_8)) {
+            out.println("package guobao.plugin.converter;");
+            out.println();
+            out.println("/**");
+            out.println(" * {@link Case} 的 BMP 字符类别表，由 UnicodeTableGenerator 生成，请勿手动修改。");
+            out.println(" *");
+            out.println(" * <p>数据来自 JDK " + Runtime.version().feature() + " 的 Character，" + table[0].length() + " 个块，"
+                    + table[1].length() / UnicodeTableData.BLOCK_SIZE + " 个不同的块。");
+            out.println(" */");
+            out.println("final class UnicodeTableData {");
+            out.println();
+            out.println("    private UnicodeTableData() {}");
+            out.println();
+            out.println("    static final int BLOCK_SHIFT = " + UnicodeTableData.BLOCK_SHIFT + ";");
+            out.println("    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;");
+            out.println();
+            out.println("    /** 生成时使用的 JDK 版本，表中的数据即该版本 Character 的 Unicode 数据 */");
+            out.println("    static final int JDK_VERSION = " + Runtime.version().feature() + ";");
+            out.println();
+            out.println("    /** 每个块在 DATA 中的起始位置 */");
+            writeString(out, "INDEX", table[0]);
+            out.println();
+            out.println("    /** 各个不同的块，每个字符为类别位与扩展类别的组合 */");
+            writeString(out, "DATA", table[1]);
+            out.println("}");
+        }
+    }
+
+    private static void writeString(PrintWriter out, String name, String value) {
+        out.print("    static final String " + name + " =");
+        for (int i = 0; i < value.length(); i += 16) {
+            out.print(i == 0 ? "\n            \"" : "\n            + \"");
+            for (int j = i; j < Math.min(i + 16, value.length()); j++) out.print(escape(value.charAt(j)));
+            out.print('"');
+        }
+        out.println(";");
+    }
+
+    /**
+     * Unicode 转义在词法分析之前展开，引号、反斜杠与换行必须使用普通转义。
+     */
+    private static String escape(char c) {
+        return switch (c) {
+            case '"' -> "\\\"";
+            case '\\' -> "\\\\";
+            case '\n' -> "\\n";
+            case '\r' -> "\\r";
+            default -> String.format(Locale.ROOT, "\\u%04x", (int) c);
+        };
+    }
+}
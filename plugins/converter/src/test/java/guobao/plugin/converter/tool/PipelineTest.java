@@ -0,0 +1,49 @@
+package guobao.plugin.converter.tool;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.Test;
+
+import guobao.plugin.converter.CaseMapper;
+import guobao.plugin.converter.Converter;
+import guobao.plugin.converter.TestContexts;
+
+public class PipelineTest {
+
+    @Test
+    public void testParse() {
+        Pipeline p = Pipeline.parse(" unicode:decode>case:snake ");
+        assertEquals("unicode:decode > case:snake", p.spec());
+        assertEquals(2, p.size());
+        assertThrows(IllegalArgumentException.class, () -> Pipeline.parse("unicode:decode > nothing:snake"));
+        assertThrows(IllegalArgumentException.class, () -> Pipeline.parse("case:nothing"));
+    }
+
+    @Test
+    public void testLineByLine() throws Exception {
+        Converter converter = new Converter(TestContexts.create());
+        String text = "\\u7528\\u6237Name\nitemCount\n";
+        assertEquals("用户name\nitem_count\n", converter.convert(text, "pipeline", "unicode:decode > case:snake"));
+    }
+
+    @Test
+    public void testCodecsMatchDirectCall() throws Exception {
+        Converter converter = new Converter(TestContexts.create());
+        // 字节编解码整段处理，换行与其他字符一样被编码
+        String text = "第一行文字\n第二行";
+        assertEquals(CaseMapper.toLower(converter.convert(text, "base64", "encode")),
+                converter.convert(text, "pipeline", "base64:encode > case:lower"));
+        assertEquals(converter.convert(text, "hex", "encode"), converter.convert(text, "pipeline", "hex:encode"));
+        assertEquals("a%20b%0Ac", converter.convert("a b\nc", "pipeline", "percent:encode"));
+
+        // 每行 76 字符的 Base64 在行尾截断了 UTF-8 字节序列
+        String cjk = "中文字符".repeat(20);
+        String wrapped = Base64.getMimeEncoder().encodeToString(cjk.getBytes(StandardCharsets.UTF_8)).replace("\r\n", "\n");
+        assertTrue(wrapped.contains("\n"));
+        assertEquals(cjk, converter.convert(wrapped, "base64", "decode"));
+        assertEquals(cjk, converter.convert(wrapped, "pipeline", "base64:decode > case:lower"));
+    }
+}